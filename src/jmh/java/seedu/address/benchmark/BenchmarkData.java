@@ -0,0 +1,33 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Builds the synthetic address books that the benchmarks run against.
+ * The same size always gives the same persons, so results stay comparable between runs.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = 2103L;
+
+    /**
+     * Returns {@code count} persons with distinct names.
+     */
+    public static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        SyntheticDataUtil.getSyntheticPersons(SEED, count).forEachRemaining(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} persons created by {@link #createPersons(int)}.
+     */
+    public static AddressBook createAddressBook(int count) {
+        return new AddressBook(SyntheticDataUtil.getSyntheticAddressBook(SEED, count));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Measures {@code FilterCommand} with a common and a rare tag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FilterCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Model model;
+    private FilterCommand filterCommand;
+
+    /**
+     * Creates a model of {@code size} persons.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createAddressBook(size), new UserPrefs());
+        filterCommand = new FilterCommand(new TagContainsKeywordsPredicate(List.of("friends", "vip")));
+    }
+
+    @Benchmark
+    public int execute() {
+        filterCommand.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Measures {@code FindCommand} in each of its search modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"relaxed", "strict", "fuzzy"})
+    private String mode;
+
+    private Model model;
+    private FindCommand findCommand;
+
+    /**
+     * Creates a model of {@code size} persons and a find command in {@code mode}.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createAddressBook(size), new UserPrefs());
+        List<String> keywords = mode.equals("fuzzy") ? List.of("Alx", "Yoh") : List.of("Alex", "Yeoh");
+        findCommand = new FindCommand(new NameContainsKeywordsPredicate(keywords, mode.equals("strict"),
+                mode.equals("fuzzy")));
+    }
+
+    @Benchmark
+    public int execute() {
+        findCommand.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures sorting a whole address book with each of the {@code SortCommand} comparators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortCommandBenchmark {
+
+    private static final Map<String, Comparator<Person>> COMPARATORS = Map.of(
+            "nameAscending", SortCommand.COMPARATOR_SORT_PERSONS_BY_NAME_ASCENDING,
+            "nameDescending", SortCommand.COMPARATOR_SORT_PERSONS_BY_NAME_DESCENDING,
+            "dateAddedAscending", SortCommand.COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_ASCENDING,
+            "dateAddedDescending", SortCommand.COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_DESCENDING);
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"nameAscending", "nameDescending", "dateAddedAscending", "dateAddedDescending"})
+    private String comparatorName;
+
+    private List<Person> persons;
+    private Comparator<Person> comparator;
+
+    /**
+     * Creates {@code size} persons in their insertion order.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.createPersons(size);
+        comparator = COMPARATORS.get(comparatorName);
+    }
+
+    @Benchmark
+    public List<Person> sort() {
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(comparator);
+        return sortedPersons;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing typical user input into commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney",
+        "edit 1 p/91234567 e/johndoe@example.com",
+        "find s/2 Alx Yoh",
+        "filter friends vip",
+        "sort st/name so/dsc"
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Measures a bulk edit of {@code EDIT_COUNT} persons through the filtered and sorted person lists of
+ * {@code ModelManager}, made one change at a time and as a single batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModelManagerBatchBenchmark {
+
+    private static final int EDIT_COUNT = 100;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private List<Person> targets;
+    private List<Person> editedTargets;
+
+    /**
+     * Fills the model with {@code size} persons and picks evenly spread persons to edit.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createAddressBook(size), new UserPrefs());
+        List<Person> persons = model.getAddressBook().getPersonList();
+        targets = new ArrayList<>();
+        editedTargets = new ArrayList<>();
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            Person target = persons.get(i * size / EDIT_COUNT);
+            targets.add(target);
+            editedTargets.add(new Person(target.getName(), new Phone("999"), target.getEmail(),
+                    target.getAddress(), target.getTags(), target.getTimezone(), target.getDateAdded(),
+                    target.getNote()));
+        }
+    }
+
+    @Benchmark
+    public ModelManager editEach() {
+        editAll();
+        return model;
+    }
+
+    @Benchmark
+    public ModelManager editInBatch() {
+        model.runInBatch(this::editAll);
+        return model;
+    }
+
+    /**
+     * Edits every target, and undoes the edits on the next call.
+     */
+    private void editAll() {
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            model.setPerson(targets.get(i), editedTargets.get(i));
+        }
+        List<Person> previousTargets = targets;
+        targets = editedTargets;
+        editedTargets = previousTargets;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.AddressBookLoader;
+
+/**
+ * Measures the operations that every command goes through on {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person absentPerson;
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+
+    /**
+     * Fills the list with {@code size} persons and keeps one more person aside to be added.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> allPersons = BenchmarkData.createPersons(size + 1);
+        persons = allPersons.subList(0, size);
+        absentPerson = allPersons.get(size);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+
+        middlePerson = persons.get(size / 2);
+        editedMiddlePerson = new Person(middlePerson.getName(), new Phone("999"), middlePerson.getEmail(),
+                middlePerson.getAddress(), middlePerson.getTags(), middlePerson.getTimezone(),
+                middlePerson.getDateAdded(), middlePerson.getNote());
+    }
+
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        personList.add(absentPerson);
+        personList.remove(absentPerson);
+        return personList;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return personList.contains(middlePerson);
+    }
+
+    @Benchmark
+    public UniquePersonList setPerson() {
+        personList.setPerson(middlePerson, editedMiddlePerson);
+        personList.setPerson(editedMiddlePerson, middlePerson);
+        return personList;
+    }
+
+    /**
+     * Replaces the whole list, as loading an address book does.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList setPersons() {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.setPersons(persons);
+        return replacement;
+    }
+
+    /**
+     * Adds the persons in batches, as the model is filled when the window is shown before the address book has
+     * loaded, and then reads a presorted order, which merges the batches into it.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList addAllInBatches() {
+        UniquePersonList loaded = new UniquePersonList();
+        for (int from = 0; from < size; from += AddressBookLoader.BATCH_SIZE) {
+            loaded.addAll(persons.subList(from, Math.min(from + AddressBookLoader.BATCH_SIZE, size)));
+        }
+        loaded.getPersonsInOrder(PersonComparators.BY_NAME_ASCENDING).get().size();
+        return loaded;
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFileFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures saving and loading a whole address book in each file format, including the validation of every loaded
+ * person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"JSON", "BINARY"})
+    private AddressBookFileFormat format;
+
+    private Path directory;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves an address book of {@code size} persons to a temporary file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("addressbook-benchmark");
+        Path filePath = directory.resolve("addressbook");
+        storage = format == AddressBookFileFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+        addressBook = BenchmarkData.createAddressBook(size);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,16 +15,18 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSaveScheduler;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -38,12 +42,17 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    /** How long changes to the address book may wait before they are written to disk. */
+    private static final long SAVE_DELAY_MILLIS = 500;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookSaveScheduler saveScheduler;
     protected Model model;
+    protected AddressBookLoader loader;
     protected Config config;
 
     @Override
@@ -57,40 +66,45 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is loaded into the model once the window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
+        loader = new AddressBookLoader(model, storage, initLoaderExecutor(), Platform::runLater);
 
-        logic = new LogicManager(model, storage);
+        saveScheduler = AddressBookSaveScheduler.debounced(storage, SAVE_DELAY_MILLIS);
+        logic = new LogicManager(model, saveScheduler, loader);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage for the address book data file in the format chosen in {@code userPrefs}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case JSON:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case JOURNAL:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        default:
+            throw new AssertionError(userPrefs.getAddressBookFileFormat());
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns an executor that reads the address book on a thread of its own, which does not keep the application
+     * running once it is closed.
+     */
+    private Executor initLoaderExecutor() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "address-book-loader");
+            thread.setDaemon(true);
+            thread.start();
+        };
     }
 
     private void initLogging(Config config) {
@@ -173,6 +187,7 @@ public class MainApp extends Application {
         logger.info("Starting AddressBook");
         logger.fine("AddressBook Version: " + MainApp.VERSION);
         ui.start(primaryStage);
+        loader.start();
     }
 
     @Override
@@ -183,5 +198,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            saveScheduler.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
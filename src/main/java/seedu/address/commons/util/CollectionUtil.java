@@ -2,8 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -32,4 +35,43 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns a new list of the elements of {@code sorted} and {@code additions}, which must both be sorted by
+     * {@code comparator}, sorted by {@code comparator}. Each addition comes after the elements of {@code sorted} that
+     * are equal to it.
+     * Each addition is placed by a binary search of {@code sorted}, so a few additions to a long list take only a few
+     * comparisons, and {@code sorted} is copied in runs. Both lists should therefore be {@code RandomAccess}.
+     */
+    public static <T> List<T> mergeSorted(List<T> sorted, List<T> additions, Comparator<? super T> comparator) {
+        requireAllNonNull(sorted, additions, comparator);
+        List<T> merged = new ArrayList<>(sorted.size() + additions.size());
+        int from = 0;
+        for (T addition : additions) {
+            int to = indexAfterEqual(sorted, from, addition, comparator);
+            merged.addAll(sorted.subList(from, to));
+            merged.add(addition);
+            from = to;
+        }
+        merged.addAll(sorted.subList(from, sorted.size()));
+        return merged;
+    }
+
+    /**
+     * Returns the index of the first element at or after {@code from} in {@code sorted} that is greater than
+     * {@code element}.
+     */
+    private static <T> int indexAfterEqual(List<T> sorted, int from, T element, Comparator<? super T> comparator) {
+        int low = from;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(sorted.get(middle), element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
 }
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +89,133 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is first written and forced to disk in a temporary file next to {@code file}, which then replaces
+     * {@code file} in a single rename, so a crash never leaves {@code file} partly written.
+     * A crash can leave the temporary file behind; see {@link #getTempFilePath(Path)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, with the same guarantees as
+     * {@link #writeToFile(Path, String)}.
+     * The content is passed through a buffer to the file as it is produced, so it never has to be held in memory
+     * as a whole.
+     * If the content cannot be written, the partly written temporary file is deleted and {@code file} is left as it
+     * was.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+
+        replaceWithTempFile(file);
+    }
+
+    /**
+     * Returns the path of the temporary file that {@link #writeToFile(Path, ContentWriter)} writes before replacing
+     * {@code file}.
+     * If it exists while {@code file} is not being written, an earlier write crashed. It may then hold complete
+     * content that is newer than {@code file}, or a partial write.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Deals with a temporary file left behind by a crashed {@link #writeToFile(Path, ContentWriter)} of {@code file}.
+     * If {@code checker} finds the temporary file complete, it was about to replace {@code file}, so it is moved into
+     * place; otherwise it is a partial write and is deleted.
+     */
+    public static void recoverFromTempFile(Path file, ContentChecker checker) {
+        Path tempFile = getTempFilePath(file);
+        if (!Files.exists(tempFile)) {
+            return;
+        }
+
+        try {
+            checker.checkComplete(tempFile);
+        } catch (IOException e) {
+            logger.warning("Discarding incomplete write " + tempFile + ": " + e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                logger.warning("Could not delete " + tempFile + ": " + deleteException);
+            }
+            return;
+        }
+
+        try {
+            replaceWithTempFile(file);
+            logger.warning("Recovered " + file + " from the complete write " + tempFile);
+        } catch (IOException e) {
+            logger.warning("Could not recover " + file + " from " + tempFile + ": " + e);
+        }
+    }
+
+    /**
+     * Atomically replaces {@code file} with its temporary file, where the file system supports it.
+     */
+    public static void replaceWithTempFile(Path file) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entry of a renamed file in {@code directory} to disk. Not every platform can open a directory for
+     * this, in which case the rename is left to the file system to persist.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // e.g. Windows does not allow opening directories
+        }
+    }
+
+    /**
+     * Produces the content of a file written by {@link #writeToFile(Path, ContentWriter)}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} must not be closed.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Checks that a file left behind by {@link #writeToFile(Path, ContentWriter)} was written completely.
+     */
+    @FunctionalInterface
+    public interface ContentChecker {
+        /**
+         * Returns normally if {@code file} holds complete content.
+         *
+         * @throws IOException if it does not, or could not be read.
+         */
+        void checkComplete(Path file) throws IOException;
     }
 
 }
@@ -2,19 +2,26 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -29,6 +37,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -60,6 +69,7 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
         requireNonNull(filePath);
 
+        recoverFromTempFile(filePath);
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
@@ -77,6 +87,79 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the JSON array held by the {@code arrayName} field of the JSON object in the given file,
+     * passing each element to {@code elementHandler} as soon as it is parsed, so that only one element is held in
+     * memory at a time. A missing field is treated as an empty array and other fields are ignored.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass every array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        requireNonNull(elementClass);
+        requireNonNull(elementHandler);
+
+        recoverFromTempFile(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = arrayName.equals(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (!isArrayField || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected \"" + arrayName + "\" to be a JSON array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Deals with a temporary file left behind by a crashed {@link FileUtil#writeToFile(Path, FileUtil.ContentWriter)}
+     * of {@code filePath}; see {@link FileUtil#recoverFromTempFile(Path, FileUtil.ContentChecker)}.
+     */
+    private static void recoverFromTempFile(Path filePath) {
+        FileUtil.recoverFromTempFile(filePath, JsonUtil::checkCompleteJsonFile);
+    }
+
+    /**
+     * Checks that {@code jsonFile} holds a single complete JSON value, without building it in memory.
+     *
+     * @throws IOException if it does not.
+     */
+    public static void checkCompleteJsonFile(Path jsonFile) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(jsonFile), BUFFER_SIZE))) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException(parser, "No JSON content");
+            }
+            parser.skipChildren();
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +175,36 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves the given elements to the specified file as a JSON object whose {@code arrayName} field holds them in a
+     * JSON array, in the same layout as {@link #saveJsonFile(Object, Path)}.
+     * The elements are serialized one at a time as they are taken from {@code elements} and go through a buffer
+     * straight to the file, so only one element is held in memory at a time.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayName, Iterator<T> elements)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        requireNonNull(elements);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayName);
+                while (elements.hasNext()) {
+                    elementWriter.writeValue(generator, elements.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +224,30 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without the
+     * whitespace of {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles the next element of the array.
+         *
+         * @throws IllegalValueException if the element is rejected, which stops the reading.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
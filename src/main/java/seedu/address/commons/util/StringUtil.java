@@ -12,6 +12,10 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final int INITIAL_LEVENSHTEIN_ROW_LENGTH = 32;
+    private static final ThreadLocal<int[][]> LEVENSHTEIN_ROWS = ThreadLocal.withInitial(() ->
+            new int[][] {new int[INITIAL_LEVENSHTEIN_ROW_LENGTH], new int[INITIAL_LEVENSHTEIN_ROW_LENGTH]});
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -66,6 +70,20 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. if it matches the regex {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, i.e. if it matches the regex {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Calculates the Levenshtein distance between two strings.
      * The Levenshtein distance is the minimum number of single-character edits
@@ -77,36 +95,96 @@ public class StringUtil {
      * @return the Levenshtein distance between s1 and s2
      */
     public static int getLevenshteinDistance(String s1, String s2) {
+        return getLevenshteinDistance(s1, s2, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Calculates the Levenshtein distance between two strings, giving up once it is known to exceed
+     * {@code maxDistance}.
+     * Only the cells within {@code maxDistance} of the diagonal are computed, two rows at a time, in buffers that
+     * are reused across calls on the same thread.
+     *
+     * @param s1 the first string, cannot be null
+     * @param s2 the second string, cannot be null
+     * @param maxDistance the largest distance of interest, cannot be negative
+     * @return the Levenshtein distance between s1 and s2 if it is at most {@code maxDistance},
+     *         otherwise {@code maxDistance + 1}
+     */
+    public static int getLevenshteinDistance(String s1, String s2, int maxDistance) {
         requireNonNull(s1);
         requireNonNull(s2);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        // Keep the shorter string along the rows so that the buffers only need to fit it
+        String longer = s1.length() >= s2.length() ? s1 : s2;
+        String shorter = longer == s1 ? s2 : s1;
+        int longLength = longer.length();
+        int shortLength = shorter.length();
+
+        // No distance exceeds the length of the longer string
+        int limit = Math.min(maxDistance, longLength);
+        int exceeded = limit + 1;
+        if (longLength - shortLength > limit) {
+            return exceeded;
+        }
+        if (shortLength == 0) {
+            return longLength;
+        }
 
-        int len1 = s1.length();
-        int len2 = s2.length();
+        int[][] rows = getLevenshteinRows(shortLength + 1);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= shortLength; j++) {
+            previous[j] = Math.min(j, exceeded);
+        }
 
-        // Create a 2D array to store distances
-        int[][] dp = new int[len1 + 1][len2 + 1];
+        for (int i = 1; i <= longLength; i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(shortLength, i + limit);
 
-        // Initialize base cases
-        for (int i = 0; i <= len1; i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= len2; j++) {
-            dp[0][j] = j;
-        }
+            // Cells just outside the band are treated as already too far
+            current[0] = Math.min(i, exceeded);
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+            int rowMin = current[from - 1];
+
+            char longChar = longer.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (longChar == shorter.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                int distance = Math.min(exceeded, Math.min(substitution, Math.min(deletion, insertion)));
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (to < shortLength) {
+                current[to + 1] = exceeded;
+            }
 
-        // Fill the dp array
-        for (int i = 1; i <= len1; i++) {
-            for (int j = 1; j <= len2; j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(dp[i - 1][j - 1], // substitution
-                            Math.min(dp[i - 1][j], // deletion
-                                    dp[i][j - 1])); // insertion
-                }
+            // Distances never decrease from one row to the next
+            if (rowMin > limit) {
+                return exceeded;
             }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
         }
 
-        return dp[len1][len2];
+        return previous[shortLength];
+    }
+
+    /**
+     * Returns this thread's two Levenshtein rows, grown to hold at least {@code length} cells each.
+     */
+    private static int[][] getLevenshteinRows(int length) {
+        int[][] rows = LEVENSHTEIN_ROWS.get();
+        if (rows[0].length < length) {
+            int newLength = Math.max(length, rows[0].length * 2);
+            rows[0] = new int[newLength];
+            rows[1] = new int[newLength];
+        }
+        return rows;
     }
 }
@@ -0,0 +1,131 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book from {@code Storage} into a model that starts out empty, so that the window can be shown
+ * before the data file has been read.
+ * The data file is read on a background executor. The persons read are then added to the model in batches of
+ * {@link #BATCH_SIZE} on the UI executor, one batch per task, so the UI stays responsive in between batches.
+ *
+ * Apart from the read, everything happens on the UI executor, including notifying the progress listeners.
+ */
+public class AddressBookLoader {
+
+    /** Number of persons added to the model at a time. */
+    public static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Executor backgroundExecutor;
+    private final Executor uiExecutor;
+    private final List<Consumer<LoadingProgress>> progressListeners = new ArrayList<>();
+    private LoadingProgress progress = LoadingProgress.reading();
+
+    /**
+     * Creates a loader that adds the address book in {@code storage} to {@code model} once started.
+     *
+     * @param backgroundExecutor runs the read of the data file.
+     * @param uiExecutor runs the changes to {@code model}, e.g. the JavaFX application thread.
+     */
+    public AddressBookLoader(Model model, Storage storage, Executor backgroundExecutor, Executor uiExecutor) {
+        requireAllNonNull(model, storage, backgroundExecutor, uiExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.backgroundExecutor = backgroundExecutor;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Starts reading the data file. Must only be called once.
+     */
+    public void start() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        backgroundExecutor.execute(() -> {
+            List<Person> persons = new ArrayList<>(readAddressBook().getPersonList());
+            uiExecutor.execute(() -> startAdding(persons));
+        });
+    }
+
+    public LoadingProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Registers {@code listener} to be notified on the UI executor each time the progress changes.
+     */
+    public void addProgressListener(Consumer<LoadingProgress> listener) {
+        progressListeners.add(listener);
+    }
+
+    /**
+     * Returns the address book in {@code storage}.
+     * The sample address book is returned instead if the data file is not found, or an empty address book if
+     * errors occur when reading it. Unexpected errors are treated the same way, as nothing else would ever finish
+     * the load.
+     */
+    private ReadOnlyAddressBook readAddressBook() {
+        try {
+            return storage.readAddressBook().orElseGet(() -> {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                return SampleDataUtil.getSampleAddressBook();
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            return new AddressBook();
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while loading the data file at " + storage.getAddressBookFilePath()
+                    + ". Will be starting with an empty AddressBook. " + StringUtil.getDetails(e));
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Reports how many persons were read, then queues the first batch of them.
+     */
+    private void startAdding(List<Person> persons) {
+        setProgress(LoadingProgress.of(0, persons.size()));
+        if (!persons.isEmpty()) {
+            uiExecutor.execute(() -> addBatch(persons, 0));
+        }
+    }
+
+    /**
+     * Adds the batch of {@code persons} starting at {@code from} to the model, then queues the next batch.
+     */
+    private void addBatch(List<Person> persons, int from) {
+        int to = Math.min(from + BATCH_SIZE, persons.size());
+        model.addPersons(persons.subList(from, to));
+        setProgress(LoadingProgress.of(to, persons.size()));
+        if (to < persons.size()) {
+            uiExecutor.execute(() -> addBatch(persons, to));
+        } else {
+            logger.info("Loaded " + persons.size() + " persons");
+        }
+    }
+
+    private void setProgress(LoadingProgress progress) {
+        this.progress = progress;
+        progressListeners.forEach(listener -> listener.accept(progress));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * How far the address book has been loaded into the model.
+ * Guarantees: immutable.
+ */
+public class LoadingProgress {
+
+    /** The total count of a load that is still reading the data file, and so does not know it yet. */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    private final int loadedCount;
+    private final int totalCount;
+
+    private LoadingProgress(int loadedCount, int totalCount) {
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the progress of a load that is still reading the data file.
+     */
+    public static LoadingProgress reading() {
+        return new LoadingProgress(0, UNKNOWN_TOTAL);
+    }
+
+    /**
+     * Returns the progress of a load that has added {@code loadedCount} of the {@code totalCount} persons read.
+     */
+    public static LoadingProgress of(int loadedCount, int totalCount) {
+        assert 0 <= loadedCount && loadedCount <= totalCount;
+        return new LoadingProgress(loadedCount, totalCount);
+    }
+
+    /**
+     * Returns the progress of a finished load of {@code totalCount} persons.
+     */
+    public static LoadingProgress done(int totalCount) {
+        return of(totalCount, totalCount);
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    /**
+     * Returns the number of persons being loaded, or {@link #UNKNOWN_TOTAL} while the data file is being read.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isDone() {
+        return loadedCount == totalCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LoadingProgress)) {
+            return false;
+        }
+
+        LoadingProgress otherProgress = (LoadingProgress) other;
+        return loadedCount == otherProgress.loadedCount
+                && totalCount == otherProgress.totalCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadedCount, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("loadedCount", loadedCount)
+                .add("totalCount", totalCount)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -33,6 +34,17 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns how far the address book has been loaded. The person list may be incomplete until it is done.
+     */
+    LoadingProgress getLoadingProgress();
+
+    /**
+     * Registers {@code listener} to be notified on the JavaFX application thread each time the loading progress
+     * changes.
+     */
+    void addLoadingProgressListener(Consumer<LoadingProgress> listener);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookSaveScheduler;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,16 +32,46 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaveScheduler saveScheduler;
     private final AddressBookParser addressBookParser;
+    private final AddressBookLoader loader;
+    private long savedAddressBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the address book are saved to {@code storage} right after each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, AddressBookSaveScheduler.immediate(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves changes to the address book through
+     * {@code saveScheduler}.
+     */
+    public LogicManager(Model model, AddressBookSaveScheduler saveScheduler) {
+        this(model, saveScheduler, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, AddressBookSaveScheduler)}, whose
+     * {@code model} is still being filled by {@code loader}.
+     * Until the load is done, only read-only commands are executed, and nothing is saved.
+     */
+    public LogicManager(Model model, AddressBookSaveScheduler saveScheduler, AddressBookLoader loader) {
         this.model = model;
-        this.storage = storage;
+        this.saveScheduler = saveScheduler;
+        this.loader = loader;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        if (loader != null) {
+            loader.addProgressListener(progress -> {
+                if (progress.isDone()) {
+                    // The loaded persons are already in the data file
+                    savedAddressBookVersion = model.getAddressBookVersion();
+                }
+            });
+        }
     }
 
     @Override
@@ -48,10 +80,30 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+
+        LoadingProgress progress = getLoadingProgress();
+        if (!progress.isDone()) {
+            // Saving now would drop the persons that are not loaded yet
+            if (!command.isReadOnly()) {
+                throw new CommandException(String.format(Messages.MESSAGE_STILL_LOADING, Messages.format(progress)));
+            }
+            commandResult = command.execute(model);
+            return new CommandResult(commandResult.getFeedbackToUser()
+                    + String.format(Messages.MESSAGE_RESULTS_MAY_BE_INCOMPLETE, Messages.format(progress)),
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
+
         commandResult = command.execute(model);
 
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            // Nothing changed, e.g. the command only listed or searched persons
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveScheduler.schedule(model.getAddressBook());
+            savedAddressBookVersion = addressBookVersion;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -71,6 +123,21 @@ public class LogicManager implements Logic {
         return model.getSortedPersonList();
     }
 
+    @Override
+    public LoadingProgress getLoadingProgress() {
+        if (loader == null) {
+            return LoadingProgress.done(model.getAddressBook().getPersonList().size());
+        }
+        return loader.getProgress();
+    }
+
+    @Override
+    public void addLoadingProgressListener(Consumer<LoadingProgress> listener) {
+        if (loader != null) {
+            loader.addProgressListener(listener);
+        }
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
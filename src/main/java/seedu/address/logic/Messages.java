@@ -20,6 +20,12 @@ public class Messages {
             "Listed %d persons with the tags: %s";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_READING_ADDRESS_BOOK = "Reading address book...";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading %1$d/%2$d persons";
+    public static final String MESSAGE_RESULTS_MAY_BE_INCOMPLETE =
+            "\nThe address book is still loading (%1$s), so results may be incomplete.";
+    public static final String MESSAGE_STILL_LOADING =
+            "The address book is still loading (%1$s). Please try again once it has loaded.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -33,6 +39,17 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Formats the {@code progress} of a load that is not done yet for display to the user.
+     */
+    public static String format(LoadingProgress progress) {
+        assert !progress.isDone();
+        if (progress.getTotalCount() == LoadingProgress.UNKNOWN_TOTAL) {
+            return MESSAGE_READING_ADDRESS_BOOK;
+        }
+        return String.format(MESSAGE_LOADING_PROGRESS, progress.getLoadedCount(), progress.getTotalCount());
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command may run while the address book is still being loaded. Such a command must never
+     * modify the address book, and must show persons that are loaded after it runs wherever they belong.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
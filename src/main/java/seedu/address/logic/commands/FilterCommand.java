@@ -34,12 +34,17 @@ public class FilterCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
 
-        model.updateFilteredPersonList(predicate);
+        model.filterPersonsByTags(predicate);
 
         int size = model.getSortedPersonList().size();
         String tagsString = String.join(", ", predicate.getTags());
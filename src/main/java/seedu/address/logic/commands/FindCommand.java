@@ -3,17 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH_MODE;
 
-import java.util.Comparator;
-import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
@@ -44,6 +40,12 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        // Fuzzy results are a fixed ranking, so persons loaded afterwards could never be ranked into them
+        return !predicate.isFuzzy();
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -65,7 +67,7 @@ public class FindCommand extends Command {
      * @return the command result
      */
     private CommandResult executeNormalSearch(Model model) {
-        model.updateFilteredPersonList(predicate);
+        model.filterPersonsByName(predicate);
         int resultCount = model.getSortedPersonList().size();
 
         String mode = getModeDescription();
@@ -78,7 +80,7 @@ public class FindCommand extends Command {
 
     /**
      * Executes a fuzzy search and returns top 5 closest matches.
-     * This method ranks all persons by their minimum Levenshtein distance to the
+     * This method ranks persons by their minimum Levenshtein distance to the
      * keywords
      * and returns the top 5 closest matches, regardless of distance threshold.
      *
@@ -86,13 +88,7 @@ public class FindCommand extends Command {
      * @return the command result
      */
     private CommandResult executeFuzzySearch(Model model) {
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        assert allPersons != null : "Person list should not be null";
-
-        List<Person> rankedPersons = rankPersonsByDistance(allPersons);
-
-        // Update the filtered list with top 5 matches
-        model.updateFilteredPersonList(rankedPersons::contains);
+        model.filterClosestPersonsByName(predicate, FUZZY_RESULT_LIMIT);
 
         int resultCount = model.getSortedPersonList().size();
         String mode = getModeDescription();
@@ -118,19 +114,6 @@ public class FindCommand extends Command {
         }
     }
 
-    /**
-     * Ranks all persons by their minimum Levenshtein distance to the keywords.
-     *
-     * @param persons the list of persons to rank
-     * @return the top 5 closest matches
-     */
-    private List<Person> rankPersonsByDistance(List<Person> persons) {
-        return persons.stream()
-                .sorted(Comparator.comparingInt(predicate::getMinimumDistance))
-                .limit(FUZZY_RESULT_LIMIT)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -4,11 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_TYPE;
 
-import java.time.Instant;
 import java.util.Comparator;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonComparators;
 
 /**
  * Lists all persons in the address book to the user.
@@ -20,22 +20,19 @@ public class SortCommand extends Command {
 
     /** {@code Comparator} that compares persons' name in ascending order */
     public static final Comparator<Person> COMPARATOR_SORT_PERSONS_BY_NAME_ASCENDING =
-        Comparator.<Person, String>comparing(person -> person.getName().toString().toLowerCase(),
-                Comparator.naturalOrder())
-                .thenComparing(person -> Instant.parse(person.getDateAdded().toString()));
+        PersonComparators.BY_NAME_ASCENDING;
 
     /** {@code Comparator} that compares persons' name in ascending order */
     public static final Comparator<Person> COMPARATOR_SORT_PERSONS_BY_NAME_DESCENDING =
-        COMPARATOR_SORT_PERSONS_BY_NAME_ASCENDING.reversed();
+        PersonComparators.BY_NAME_DESCENDING;
 
     /** {@code Comparator} that compares the persons' date added ascending */
     public static final Comparator<Person> COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_ASCENDING =
-        Comparator.<Person, Instant>comparing(person -> Instant.parse(person.getDateAdded().toString()))
-                .thenComparing(person -> person.getName().toString().toLowerCase(), Comparator.naturalOrder());
+        PersonComparators.BY_DATE_ADDED_ASCENDING;
 
     /** {@code Comparator} that compares the persons' date added ascending */
     public static final Comparator<Person> COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_DESCENDING =
-        COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_ASCENDING.reversed();
+        PersonComparators.BY_DATE_ADDED_DESCENDING;
 
 
     public static final String DATE_ADDED_SORT_TYPE_ARGUMENT = "dateadded";
@@ -58,13 +55,18 @@ public class SortCommand extends Command {
     private final Comparator<Person> comparator;
 
     /**
-     * @param comparator Comparator to update the SortedList to
+     * @param comparator Comparator to update the sorted person list to
      */
     public SortCommand(Comparator<Person> comparator) {
         requireNonNull(comparator);
         this.comparator = comparator;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -75,6 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds the persons in {@code persons} at once.
+     * None of them may already exist in the address book, or be the same person as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +107,69 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// batches
+
+    /**
+     * Starts a batch of changes, which are reported to the person list as a single change by the matching
+     * {@link #commitBatch()}.
+     *
+     * @see UniquePersonList#beginBatch()
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     *
+     * @see UniquePersonList#commitBatch()
+     */
+    public void commitBatch() {
+        persons.commitBatch();
+    }
+
+    public boolean isInBatch() {
+        return persons.isInBatch();
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the persons whose names match {@code predicate}, looked up in the name index.
+     * {@code predicate} must be {@link NameContainsKeywordsPredicate#isIndexable() indexable}.
+     */
+    public Set<Person> findPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.findByName(predicate);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code predicate}, looked up in the tag index.
+     */
+    public Set<Person> findPersonsByTags(TagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.findByTags(predicate);
+    }
+
+    /**
+     * Returns the persons in the order of {@code comparator}, if that order is kept presorted.
+     *
+     * @see UniquePersonList#getPersonsInOrder(Comparator)
+     */
+    public Optional<List<Person>> getPersonsInOrder(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return persons.getPersonsInOrder(comparator);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose names are closest to the keywords of fuzzy {@code predicate},
+     * closest first.
+     */
+    public List<Person> findClosestPersonsByName(NameContainsKeywordsPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        return persons.findClosestByName(predicate, limit);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFileFormat {
+    /** Human-readable and editable json. */
+    JSON,
+    /**
+     * Compact binary, which is smaller and faster to read and write than json.
+     * The data file keeps the user's file path, so it may still end in ".json".
+     */
+    BINARY,
+    /** Json, with each save appending only the changed persons to a journal next to the data file. */
+    JOURNAL
+}
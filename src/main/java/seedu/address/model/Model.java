@@ -7,7 +7,9 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -61,6 +63,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the persons in the address book change, so that callers can tell
+     * whether there is anything new to save.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -78,6 +86,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons at once, e.g. as they are loaded. Unlike {@link #addPerson(Person)}, the current filter
+     * is kept, and applies to the added persons.
+     * None of them may already exist in the address book, or be the same person as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,6 +100,37 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a batch of changes to the address book, e.g. a scripted bulk edit. Until the matching
+     * {@link #commitBatch()}, the person lists keep showing the persons as they were, and the changes are then
+     * reported to them as a single change, so they are filtered and sorted once per batch rather than once per
+     * change. The index lookups of the address book already see the changes, so new filters and sort orders are
+     * deferred to the commit as well, including the filter reset by {@link #addPerson(Person)}; the last one of each
+     * is then applied.
+     * Batches may be nested. Every batch must be committed, even if a change in it fails; see
+     * {@link #runInBatch(Runnable)}.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, publishing its changes if it is the outermost one.
+     *
+     * @throws IllegalStateException if there is no batch to commit.
+     */
+    void commitBatch();
+
+    /**
+     * Makes the changes of {@code changes} in a batch, which is committed even if {@code changes} throws.
+     */
+    default void runInBatch(Runnable changes) {
+        beginBatch();
+        try {
+            changes.run();
+        } finally {
+            commitBatch();
+        }
+    }
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -94,6 +140,27 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons whose names match {@code predicate}.
+     * Matches are looked up in the address book's name index rather than by testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void filterPersonsByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose tags match {@code predicate}.
+     * Matches are looked up in the address book's tag index rather than by testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void filterPersonsByTags(TagContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the {@code limit} persons whose names are closest to the
+     * keywords of {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void filterClosestPersonsByName(NameContainsKeywordsPredicate predicate, int limit);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
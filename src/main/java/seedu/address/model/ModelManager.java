@@ -4,29 +4,47 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.SortCommand;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonComparators;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int MAX_INCREMENTAL_SORT_CHANGES = 8;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final ObservableList<Person> sortedPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableSortedPersons =
+            FXCollections.unmodifiableObservableList(sortedPersons);
+    private Comparator<Person> sortComparator = PersonComparators.BY_DATE_ADDED_ASCENDING;
+    private long addressBookVersion;
+    /** The last filter set during the open batch, to be applied once it is committed, or null if none was set. */
+    private Runnable pendingFilter;
+    /** The last sort order set during the open batch, to be applied once it is committed, or null if none was set. */
+    private Comparator<Person> pendingSortComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,11 +57,11 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> addressBookVersion++);
 
-        // NOTE: the sorted list wraps around filteredPersons, that is to say any filtering will take in effect as well!
-        sortedPersons = new SortedList<>(filteredPersons,
-            SortCommand.COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_ASCENDING
-        );
+        // NOTE: the sorted list follows filteredPersons, that is to say any filtering will take in effect as well!
+        filteredPersons.addListener(this::updateSortedPersons);
+        resortPersons();
     }
 
     public ModelManager() {
@@ -102,6 +120,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -119,6 +142,11 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -126,6 +154,41 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        addressBook.commitBatch();
+        if (addressBook.isInBatch()) {
+            return;
+        }
+        if (pendingFilter != null) {
+            Runnable filter = pendingFilter;
+            pendingFilter = null;
+            filter.run();
+        }
+        if (pendingSortComparator != null) {
+            Comparator<Person> comparator = pendingSortComparator;
+            pendingSortComparator = null;
+            updateSortComparator(comparator);
+        }
+    }
+
+    /**
+     * Applies {@code filter} now, or once the open batch is committed if there is one, since the index lookups of the
+     * address book would otherwise match persons that the filtered list does not have yet.
+     */
+    private void applyFilter(Runnable filter) {
+        if (addressBook.isInBatch()) {
+            pendingFilter = filter;
+        } else {
+            filter.run();
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -140,7 +203,43 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        applyFilter(() -> filteredPersons.setPredicate(predicate));
+    }
+
+    @Override
+    public void filterPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (!predicate.isIndexable()) {
+            updateFilteredPersonList(predicate);
+            return;
+        }
+        applyFilter(() -> applyIndexedFilter(addressBook.findPersonsByName(predicate), predicate));
+    }
+
+    @Override
+    public void filterPersonsByTags(TagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        applyFilter(() -> applyIndexedFilter(addressBook.findPersonsByTags(predicate), predicate));
+    }
+
+    @Override
+    public void filterClosestPersonsByName(NameContainsKeywordsPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        applyFilter(() -> {
+            Set<Person> closestPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            closestPersons.addAll(addressBook.findClosestPersonsByName(predicate, limit));
+            // The closest persons are a fixed ranking, so persons added or edited later are not ranked in.
+            applyIndexedFilter(closestPersons, person -> false);
+        });
+    }
+
+    /**
+     * Filters the person list down to {@code matches}, which were looked up in an index using {@code predicate}.
+     */
+    private void applyIndexedFilter(Set<Person> matches, Predicate<Person> predicate) {
+        IndexedPredicate indexedPredicate = new IndexedPredicate(matches, predicate);
+        filteredPersons.setPredicate(indexedPredicate);
+        indexedPredicate.markApplied();
     }
 
     //=========== Sorted FilteredPerson List Accessors =======================================================
@@ -151,13 +250,123 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getSortedPersonList() {
-        return sortedPersons;
+        return unmodifiableSortedPersons;
     }
 
     @Override
     public void updateSortComparator(Comparator<Person> comparator) {
         requireAllNonNull(comparator);
-        this.sortedPersons.setComparator(comparator);
+        if (addressBook.isInBatch()) {
+            // The presorted orders already hold the persons of the batch
+            pendingSortComparator = comparator;
+            return;
+        }
+        sortComparator = comparator;
+        resortPersons();
+    }
+
+    /**
+     * Applies a change of the filtered persons to the sorted persons. A few added or removed persons are placed by
+     * binary search. Many added persons, such as a batch of a loading address book, are merged in. Other larger
+     * changes, such as a new filter, rebuild the sorted persons instead.
+     */
+    private void updateSortedPersons(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        boolean isAddedOnly = true;
+        List<Person> addedPersons = new ArrayList<>();
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+            isAddedOnly &= !change.wasRemoved() && !change.wasPermutated() && !change.wasUpdated();
+            addedPersons.addAll(change.getAddedSubList());
+        }
+        if (changedCount > MAX_INCREMENTAL_SORT_CHANGES) {
+            if (isAddedOnly) {
+                mergeSortedPersons(addedPersons);
+            } else {
+                resortPersons();
+            }
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            for (Person removedPerson : change.getRemoved()) {
+                int index = indexOfSortedPerson(removedPerson);
+                if (index >= 0) {
+                    sortedPersons.remove(index);
+                }
+            }
+            for (Person addedPerson : change.getAddedSubList()) {
+                int index = Collections.binarySearch(sortedPersons, addedPerson, sortComparator);
+                sortedPersons.add(index < 0 ? -index - 1 : index, addedPerson);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code person} in the sorted persons, or -1 if it is not there.
+     */
+    private int indexOfSortedPerson(Person person) {
+        int index = Collections.binarySearch(sortedPersons, person, sortComparator);
+        if (index < 0) {
+            return -1;
+        }
+        // a comparator that is not total may rank other persons equal to person
+        for (int i = index; i >= 0 && sortComparator.compare(sortedPersons.get(i), person) == 0; i--) {
+            if (sortedPersons.get(i) == person) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < sortedPersons.size()
+                && sortComparator.compare(sortedPersons.get(i), person) == 0; i++) {
+            if (sortedPersons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds {@code addedPersons} to the sorted persons with a single change, sorting only them. Persons that all sort
+     * after the current ones are appended.
+     */
+    private void mergeSortedPersons(List<Person> addedPersons) {
+        addedPersons.sort(sortComparator);
+        if (sortedPersons.isEmpty()
+                || sortComparator.compare(sortedPersons.get(sortedPersons.size() - 1), addedPersons.get(0)) <= 0) {
+            sortedPersons.addAll(addedPersons);
+        } else {
+            sortedPersons.setAll(CollectionUtil.mergeSorted(sortedPersons, addedPersons, sortComparator));
+        }
+    }
+
+    /**
+     * Rebuilds the sorted persons from the filtered persons.
+     * If the comparator is one of the orders that the address book keeps presorted, the presorted persons are walked
+     * once and the filtered ones kept, unless so few persons are filtered that sorting them directly is cheaper.
+     */
+    private void resortPersons() {
+        Optional<List<Person>> presortedPersons = addressBook.getPersonsInOrder(sortComparator);
+        int filteredCount = filteredPersons.size();
+        int sortCost = filteredCount * (Integer.SIZE - Integer.numberOfLeadingZeros(filteredCount));
+
+        if (presortedPersons.isEmpty() || sortCost < presortedPersons.get().size()) {
+            List<Person> persons = new ArrayList<>(filteredPersons);
+            persons.sort(sortComparator);
+            sortedPersons.setAll(persons);
+        } else if (filteredCount == presortedPersons.get().size()) {
+            sortedPersons.setAll(presortedPersons.get());
+        } else {
+            Set<Person> filteredPersonSet = Collections.newSetFromMap(new IdentityHashMap<>(filteredCount * 2));
+            filteredPersonSet.addAll(filteredPersons);
+            List<Person> persons = new ArrayList<>(filteredCount);
+            for (Person person : presortedPersons.get()) {
+                if (filteredPersonSet.contains(person)) {
+                    persons.add(person);
+                }
+            }
+            sortedPersons.setAll(persons);
+        }
     }
 
 
@@ -178,4 +387,30 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A predicate backed by matches that were looked up in an index.
+     * While the filtered list applies it, only membership in the matches is checked. Afterwards, persons outside the
+     * matches are tested with the original predicate, since the filtered list only tests them again when they are added
+     * or replaced and the lookup could not have included them.
+     */
+    private static class IndexedPredicate implements Predicate<Person> {
+        private final Set<Person> matches;
+        private final Predicate<Person> predicate;
+        private boolean isApplied = false;
+
+        IndexedPredicate(Set<Person> matches, Predicate<Person> predicate) {
+            this.matches = matches;
+            this.predicate = predicate;
+        }
+
+        void markApplied() {
+            isApplied = true;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person) || (isApplied && predicate.test(person));
+        }
+    }
+
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * The phone, email, address and note of a {@code Person}, which are only needed once the person is shown or saved,
+ * and so may be loaded lazily.
+ * Guarantees: immutable.
+ */
+public class ContactDetails {
+
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Note note;
+
+    /**
+     * The phone, email and address must be present and not null.
+     */
+    public ContactDetails(Phone phone, Email email, Address address, Note note) {
+        requireAllNonNull(phone, email, address);
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.note = note;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public Note getNote() {
+        return note;
+    }
+}
@@ -12,7 +12,7 @@ import java.time.format.DateTimeParseException;
  *
  * The property "value" is not supposed to be changed by the user.
  */
-public class DateAdded {
+public class DateAdded implements Comparable<DateAdded> {
     public static final String MESSAGE_CONSTRAINTS = "DateAdded value needs to be a non-null datatype of VALID type "
         + "Instant. That is, the passed in argument for the String parameter constructor must pass "
         + "Instant.parse(argument)";
@@ -67,6 +67,14 @@ public class DateAdded {
         return true;
     }
 
+    /**
+     * Orders dates added from the earliest to the latest.
+     */
+    @Override
+    public int compareTo(DateAdded other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         assert value != null;
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,6 +21,9 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} in lower case, kept so that sorting and searching do not convert it every time. */
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +33,32 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Checks the characters directly rather than matching {@link #VALIDATION_REGEX}, which is equivalent.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns the name in lower case. Since names are ASCII, comparing these orders names case-insensitively.
+     */
+    public String getLowerCaseName() {
+        return lowerCaseName;
+    }
 
     @Override
     public String toString() {
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -50,7 +52,7 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         String fullName = person.getName().fullName;
-        String lowerCaseName = fullName.toLowerCase();
+        String lowerCaseName = person.getName().getLowerCaseName();
 
         if (isFuzzy) {
             return keywords.stream()
@@ -94,7 +96,7 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         String lowerKeyword = keyword.toLowerCase();
 
         for (String word : words) {
-            int distance = StringUtil.getLevenshteinDistance(word, lowerKeyword);
+            int distance = StringUtil.getLevenshteinDistance(word, lowerKeyword, FUZZY_MATCH_THRESHOLD);
             if (distance <= FUZZY_MATCH_THRESHOLD) {
                 return true;
             }
@@ -111,8 +113,7 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
      *         provided
      */
     public int getMinimumDistance(Person person) {
-        String fullName = person.getName().fullName;
-        String[] nameWords = fullName.toLowerCase().split("\\s+");
+        String[] nameWords = person.getName().getLowerCaseName().split("\\s+");
 
         int minDistance = Integer.MAX_VALUE;
 
@@ -123,7 +124,8 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
             }
 
             for (String nameWord : nameWords) {
-                int distance = StringUtil.getLevenshteinDistance(nameWord, lowerKeyword);
+                // Only distances below the current minimum matter
+                int distance = StringUtil.getLevenshteinDistance(nameWord, lowerKeyword, minDistance);
                 minDistance = Math.min(minDistance, distance);
             }
         }
@@ -131,6 +133,42 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return minDistance;
     }
 
+    /**
+     * Returns true if the persons matching this predicate can be looked up in a {@code NameTokenIndex}.
+     * This holds for relaxed and strict mode as long as no keyword spans several words.
+     */
+    public boolean isIndexable() {
+        return !isFuzzy && keywords.stream()
+                .map(String::trim)
+                .allMatch(keyword -> keyword.split("\\s+").length <= 1);
+    }
+
+    /**
+     * Returns the persons in {@code index} that this predicate accepts, without testing every person.
+     * The predicate must be {@link #isIndexable() indexable}.
+     */
+    Set<Person> findMatches(NameTokenIndex index) {
+        assert isIndexable() : "Only indexable predicates can be answered from the name index";
+
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (String searchTerm : getSearchTerms()) {
+            matches.addAll(isStrict
+                    ? index.getPersonsWithWord(searchTerm)
+                    : index.getPersonsWithWordContaining(searchTerm));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the trimmed, lower case keywords, leaving out blank ones.
+     */
+    List<String> getSearchTerms() {
+        return keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase())
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     public boolean isFuzzy() {
         return isFuzzy;
     }
@@ -0,0 +1,176 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower case words of persons' names to the persons that have them.
+ * Words are additionally indexed by their trigrams so that words containing a given fragment can be found without
+ * scanning every distinct word, and kept in a BK-tree so that words close to a misspelt keyword can be found the
+ * same way.
+ *
+ * Persons are tracked by identity, so a person must be removed using the same instance that was added.
+ */
+class NameTokenIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private final WordBkTree wordTree = new WordBkTree();
+
+    /** Number of words in {@code wordTree} that no person has any more. */
+    private int staleWordCount;
+
+    /**
+     * Returns the distinct lower case words of {@code person}'s name.
+     */
+    static Set<String> getWords(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String word : person.getName().getLowerCaseName().split("\\s+")) {
+            words.add(word);
+        }
+        return words;
+    }
+
+    /**
+     * Indexes the words in {@code person}'s name.
+     */
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            personsByWord.computeIfAbsent(word, newWord -> {
+                addGrams(newWord);
+                if (!wordTree.add(newWord)) {
+                    staleWordCount--;
+                }
+                return PersonIndex.newPersonSet();
+            }).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Words that no longer belong to any person are dropped.
+     */
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+                removeGrams(word);
+                staleWordCount++;
+            }
+        }
+        if (staleWordCount > personsByWord.size()) {
+            rebuildWordTree();
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    @Override
+    public void clear() {
+        personsByWord.clear();
+        wordsByGram.clear();
+        wordTree.clear();
+        staleWordCount = 0;
+    }
+
+    /**
+     * Returns the persons whose names contain {@code word} as a full word.
+     *
+     * @param word a lower case word.
+     */
+    Set<Person> getPersonsWithWord(String word) {
+        return personsByWord.getOrDefault(word, Collections.emptySet());
+    }
+
+    /**
+     * Returns the persons whose names contain a word that has {@code fragment} as a substring.
+     *
+     * @param fragment a lower case string without whitespace.
+     */
+    Set<Person> getPersonsWithWordContaining(String fragment) {
+        Set<Person> persons = PersonIndex.newPersonSet();
+        for (String word : getCandidateWords(fragment)) {
+            if (word.contains(fragment)) {
+                persons.addAll(personsByWord.get(word));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a cursor over the indexed words in order of increasing distance from {@code target}.
+     * Words that no person has any more may still be returned; they map to no persons.
+     * The index must not be modified while the cursor is in use.
+     *
+     * @param target a lower case string.
+     */
+    WordBkTree.NearestWords getNearestWords(String target) {
+        return wordTree.getNearestWords(target);
+    }
+
+    /**
+     * Returns a set of words that includes every indexed word containing {@code fragment}.
+     * Fragments shorter than a trigram cannot be narrowed down, so every word is returned for them.
+     */
+    private Set<String> getCandidateWords(String fragment) {
+        if (fragment.length() < GRAM_LENGTH) {
+            return personsByWord.keySet();
+        }
+
+        Set<String> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= fragment.length(); i++) {
+            Set<String> words = wordsByGram.get(fragment.substring(i, i + GRAM_LENGTH));
+            if (words == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || words.size() < candidates.size()) {
+                candidates = words;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Drops the words that no person has any more from the BK-tree.
+     */
+    private void rebuildWordTree() {
+        wordTree.clear();
+        personsByWord.keySet().forEach(wordTree::add);
+        staleWordCount = 0;
+    }
+
+    private void addGrams(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            wordsByGram.computeIfAbsent(word.substring(i, i + GRAM_LENGTH), gram -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeGrams(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            String gram = word.substring(i, i + GRAM_LENGTH);
+            Set<String> words = wordsByGram.get(gram);
+            if (words != null) {
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+}
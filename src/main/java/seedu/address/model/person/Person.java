@@ -1,47 +1,67 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The contact details of a person read from a data file may be loaded only when first asked for, so that the
+ * details of persons who are never shown are never loaded. Loading them again gives equal details, so the person
+ * still behaves as immutable, and it may be used from several threads.
  */
 public class Person {
 
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final Email email;
 
     // Data fields
-    private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final int[] tagIds;
     private final Timezone timezone;
     private final DateAdded dateAdded;
-    private final Note note;
+
+    /** The phone, email, address and note, or null until they are loaded by {@code detailsLoader}. */
+    private volatile ContactDetails details;
+    /** Loads the details, or null once they are loaded. */
+    private volatile Supplier<ContactDetails> detailsLoader;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Timezone timezone,
                   DateAdded dateAdded, Note note) {
-        requireAllNonNull(name, phone, email, address, tags, timezone);
+        this(name, tags, timezone, dateAdded, new ContactDetails(phone, email, address, note), null);
+    }
+
+    /**
+     * Creates a person whose contact details are loaded by {@code detailsLoader} when first needed.
+     * The loaded details must be valid and equal every time they are loaded.
+     */
+    public Person(Name name, Set<Tag> tags, Timezone timezone, DateAdded dateAdded,
+                  Supplier<ContactDetails> detailsLoader) {
+        this(name, tags, timezone, dateAdded, null, detailsLoader);
+        requireNonNull(detailsLoader);
+    }
+
+    private Person(Name name, Set<Tag> tags, Timezone timezone, DateAdded dateAdded, ContactDetails details,
+                   Supplier<ContactDetails> detailsLoader) {
+        requireAllNonNull(name, tags, timezone);
         this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this.tagIds = TagDictionary.getInstance().getIds(tags);
         this.timezone = timezone;
         this.dateAdded = dateAdded;
-        this.note = note;
+        this.details = details;
+        this.detailsLoader = detailsLoader;
     }
 
     public Name getName() {
@@ -49,15 +69,15 @@ public class Person {
     }
 
     public Phone getPhone() {
-        return phone;
+        return getDetails().getPhone();
     }
 
     public Email getEmail() {
-        return email;
+        return getDetails().getEmail();
     }
 
     public Address getAddress() {
-        return address;
+        return getDetails().getAddress();
     }
 
     /**
@@ -65,7 +85,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return TagDictionary.getInstance().asTagSet(tagIds);
     }
 
     public Timezone getTimezone() {
@@ -77,7 +97,32 @@ public class Person {
     }
 
     public Note getNote() {
-        return note;
+        return getDetails().getNote();
+    }
+
+    /**
+     * Returns true if the contact details have been loaded, e.g. because they were given when this person was
+     * created.
+     */
+    public boolean hasLoadedDetails() {
+        return details != null;
+    }
+
+    private ContactDetails getDetails() {
+        ContactDetails loadedDetails = details;
+        if (loadedDetails != null) {
+            return loadedDetails;
+        }
+
+        Supplier<ContactDetails> loader = detailsLoader;
+        if (loader == null) {
+            // another thread loaded the details in between, and set them before clearing the loader
+            return details;
+        }
+        loadedDetails = loader.get();
+        details = loadedDetails;
+        detailsLoader = null;
+        return loadedDetails;
     }
 
     /**
@@ -110,31 +155,31 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && getPhone().equals(otherPerson.getPhone())
+                && getEmail().equals(otherPerson.getEmail())
+                && getAddress().equals(otherPerson.getAddress())
+                && Arrays.equals(tagIds, otherPerson.tagIds)
                 && timezone.equals(otherPerson.timezone)
-                && note.equals(otherPerson.note);
+                && getNote().equals(otherPerson.getNote());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, timezone);
+        return Objects.hash(name, getPhone(), getEmail(), getAddress(), Arrays.hashCode(tagIds), timezone);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("tags", tags)
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("tags", getTags())
                 .add("timezone", timezone)
                 .add("dateadded", dateAdded)
-                .add("note", note)
+                .add("note", getNote())
                 .toString();
     }
 
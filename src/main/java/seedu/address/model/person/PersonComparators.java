@@ -0,0 +1,30 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * The orders in which persons can be listed.
+ * Each order is total over the persons of an address book: ties on the sort key are broken by the other key and
+ * finally by the exact name, which is unique. {@code UniquePersonList} keeps its persons presorted in each of these
+ * orders, so listing persons in them needs no sorting.
+ */
+public class PersonComparators {
+
+    /** Orders persons by name ignoring case, then by date added. */
+    public static final Comparator<Person> BY_NAME_ASCENDING =
+            Comparator.comparing((Person person) -> person.getName().getLowerCaseName())
+                    .thenComparing(Person::getDateAdded)
+                    .thenComparing(person -> person.getName().fullName);
+
+    /** The reverse of {@link #BY_NAME_ASCENDING}. */
+    public static final Comparator<Person> BY_NAME_DESCENDING = BY_NAME_ASCENDING.reversed();
+
+    /** Orders persons by date added, then by name ignoring case. */
+    public static final Comparator<Person> BY_DATE_ADDED_ASCENDING =
+            Comparator.comparing(Person::getDateAdded)
+                    .thenComparing(person -> person.getName().getLowerCaseName())
+                    .thenComparing(person -> person.getName().fullName);
+
+    /** The reverse of {@link #BY_DATE_ADDED_ASCENDING}. */
+    public static final Comparator<Person> BY_DATE_ADDED_DESCENDING = BY_DATE_ADDED_ASCENDING.reversed();
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A secondary index over the persons in a {@code UniquePersonList}, kept up to date as persons are added and removed.
+ * Persons are tracked by identity, so a person must be removed using the same instance that was added.
+ */
+interface PersonIndex {
+
+    int INITIAL_PERSON_SET_CAPACITY = 2;
+
+    /**
+     * Returns a new empty set that compares persons by identity.
+     */
+    static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>(INITIAL_PERSON_SET_CAPACITY));
+    }
+
+    /**
+     * Indexes {@code person}.
+     */
+    void add(Person person);
+
+    /**
+     * Indexes all of {@code persons}. Indexes that can be built faster in bulk than one person at a time override this.
+     */
+    default void addAll(List<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear();
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import seedu.address.commons.util.CollectionUtil;
+
+/**
+ * The persons kept sorted in one total order, and readable in that order or its reverse without sorting.
+ * The persons are held in an array rather than a tree, which costs an array shift per change but only one reference
+ * per person, and reads in either direction are plain index lookups.
+ * Persons added in bulk are only set aside, and are sorted and merged in when the index is next used, so that a
+ * load that adds many batches in a row merges them all at once instead of shifting the array for every batch.
+ */
+class PersonOrderIndex implements PersonIndex {
+
+    private final Comparator<Person> order;
+    private final Comparator<Person> reversedOrder;
+    private final ArrayList<Person> persons = new ArrayList<>();
+    /** Persons added in bulk that are not merged into {@code persons} yet, in no particular order. */
+    private final List<Person> pendingPersons = new ArrayList<>();
+    private final List<Person> orderedPersons = new OrderedView(false);
+    private final List<Person> reversedPersons = new OrderedView(true);
+
+    /**
+     * Creates an index of persons in {@code order}, which must be total over the indexed persons.
+     *
+     * @param reversedOrder the comparator that callers use for the reverse of {@code order}.
+     */
+    PersonOrderIndex(Comparator<Person> order, Comparator<Person> reversedOrder) {
+        this.order = order;
+        this.reversedOrder = reversedOrder;
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        mergePendingPersons();
+        int index = Collections.binarySearch(persons, person, order);
+        persons.add(index < 0 ? -index - 1 : index, person);
+    }
+
+    /**
+     * Sets {@code persons} aside to be merged in when the index is next used.
+     */
+    @Override
+    public void addAll(List<Person> persons) {
+        pendingPersons.addAll(persons);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        mergePendingPersons();
+        int index = Collections.binarySearch(persons, person, order);
+        if (index >= 0) {
+            persons.remove(index);
+        }
+    }
+
+    @Override
+    public void clear() {
+        persons.clear();
+        pendingPersons.clear();
+    }
+
+    /**
+     * Returns true if {@code comparator} is the order of this index or its reverse.
+     */
+    boolean hasOrder(Comparator<Person> comparator) {
+        return comparator == order || comparator == reversedOrder;
+    }
+
+    /**
+     * Returns an unmodifiable view of the indexed persons in {@code comparator}'s order.
+     *
+     * @param comparator an order for which {@link #hasOrder(Comparator)} is true.
+     */
+    List<Person> getPersons(Comparator<Person> comparator) {
+        assert hasOrder(comparator);
+        return comparator == order ? orderedPersons : reversedPersons;
+    }
+
+    /**
+     * Sorts the persons added in bulk since the index was last used, and merges them into the indexed persons.
+     */
+    private void mergePendingPersons() {
+        if (pendingPersons.isEmpty()) {
+            return;
+        }
+        pendingPersons.sort(order);
+        List<Person> mergedPersons = CollectionUtil.mergeSorted(persons, pendingPersons, order);
+        pendingPersons.clear();
+        persons.clear();
+        persons.addAll(mergedPersons);
+    }
+
+    /**
+     * An unmodifiable view of the indexed persons in the order of the index or its reverse.
+     */
+    private class OrderedView extends AbstractList<Person> implements RandomAccess {
+        private final boolean isReversed;
+
+        OrderedView(boolean isReversed) {
+            this.isReversed = isReversed;
+        }
+
+        @Override
+        public Person get(int index) {
+            mergePendingPersons();
+            return persons.get(isReversed ? persons.size() - 1 - index : index);
+        }
+
+        @Override
+        public int size() {
+            mergePendingPersons();
+            return persons.size();
+        }
+    }
+}
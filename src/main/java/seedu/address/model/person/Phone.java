@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -13,6 +14,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     public final String value;
 
     /**
@@ -30,7 +32,15 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() < MIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
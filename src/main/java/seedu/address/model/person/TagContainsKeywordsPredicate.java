@@ -36,6 +36,13 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.stream().allMatch(personTagNames::contains);
     }
 
+    /**
+     * Returns the persons in {@code index} that this predicate accepts, without testing every person.
+     */
+    Set<Person> findMatches(TagIndex index) {
+        return keywords.isEmpty() ? index.getUntaggedPersons() : index.getPersonsWithAllTags(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
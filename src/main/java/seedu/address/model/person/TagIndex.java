@@ -0,0 +1,149 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from tag names to the persons that have them, kept as one bitmap per tag.
+ * Each person is given a dense ordinal while it is indexed, so that finding the persons with several tags is an
+ * intersection of bitmaps, and finding the untagged persons is a complement.
+ * Ordinals freed by removed persons are handed out again to later ones. The lowest free ordinal is tracked, so that
+ * finding a free ordinal does not rescan the ordinals in use.
+ */
+class TagIndex implements PersonIndex {
+
+    private final Map<String, BitSet> ordinalsByTag = new HashMap<>();
+    private final BitSet usedOrdinals = new BitSet();
+    private final BitSet taggedOrdinals = new BitSet();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+
+    /** No ordinal below this one is free. */
+    private int lowestFreeOrdinal;
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = usedOrdinals.nextClearBit(lowestFreeOrdinal);
+        lowestFreeOrdinal = ordinal + 1;
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        indexTags(person, ordinal);
+    }
+
+    /**
+     * Indexes all of {@code persons}. If no ordinal is free, they are given the next ordinals in order.
+     */
+    @Override
+    public void addAll(List<Person> persons) {
+        requireNonNull(persons);
+        if (lowestFreeOrdinal < personsByOrdinal.size()) {
+            persons.forEach(this::add);
+            return;
+        }
+
+        int firstOrdinal = personsByOrdinal.size();
+        personsByOrdinal.addAll(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            indexTags(persons.get(i), firstOrdinal + i);
+        }
+        lowestFreeOrdinal = personsByOrdinal.size();
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        usedOrdinals.clear(ordinal);
+        taggedOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+        lowestFreeOrdinal = Math.min(lowestFreeOrdinal, ordinal);
+
+        for (Tag tag : person.getTags()) {
+            BitSet tagOrdinals = ordinalsByTag.get(tag.tagName);
+            tagOrdinals.clear(ordinal);
+            if (tagOrdinals.isEmpty()) {
+                ordinalsByTag.remove(tag.tagName);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByTag.clear();
+        usedOrdinals.clear();
+        taggedOrdinals.clear();
+        personsByOrdinal.clear();
+        ordinals.clear();
+        lowestFreeOrdinal = 0;
+    }
+
+    /**
+     * Returns the persons that have every tag named in {@code tagNames}.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithAllTags(List<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return toPersons(usedOrdinals);
+        }
+
+        BitSet matches = null;
+        for (String tagName : tagNames) {
+            BitSet tagOrdinals = ordinalsByTag.get(tagName);
+            if (tagOrdinals == null) {
+                return PersonIndex.newPersonSet();
+            }
+            if (matches == null) {
+                matches = (BitSet) tagOrdinals.clone();
+            } else {
+                matches.and(tagOrdinals);
+            }
+        }
+        return toPersons(matches);
+    }
+
+    /**
+     * Returns the persons that have no tags.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getUntaggedPersons() {
+        BitSet untagged = (BitSet) usedOrdinals.clone();
+        untagged.andNot(taggedOrdinals);
+        return toPersons(untagged);
+    }
+
+    /**
+     * Records {@code ordinal} as used by {@code person}, and sets it in the bitmaps of the person's tags.
+     */
+    private void indexTags(Person person, int ordinal) {
+        usedOrdinals.set(ordinal);
+        ordinals.put(person, ordinal);
+        for (Tag tag : person.getTags()) {
+            ordinalsByTag.computeIfAbsent(tag.tagName, tagName -> new BitSet()).set(ordinal);
+        }
+        if (!person.getTags().isEmpty()) {
+            taggedOrdinals.set(ordinal);
+        }
+    }
+
+    private Set<Person> toPersons(BitSet ordinalSet) {
+        Set<Person> persons = PersonIndex.newPersonSet();
+        ordinalSet.stream().forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+}
@@ -55,7 +55,7 @@ public class Timezone {
     /**
      * Returns the local system's UTC offset in hours.
      */
-    private static double getLocalOffsetHours() {
+    public static double getLocalOffsetHours() {
 
         ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(Instant.now());
         return offset.getTotalSeconds() / SECONDS_PER_HOUR; //Converting to numerical value as offset is an object
@@ -69,9 +69,15 @@ public class Timezone {
      *  - "5 hours behind local time"
      */
     public String getRelativeToLocal() {
+        return getRelativeTo(getLocalOffsetHours());
+    }
 
-        double localOffset = getLocalOffsetHours();
-        double diff = tzOffset - localOffset;
+    /**
+     * Returns the relative time difference between this timezone and a system time that is
+     * {@code localOffsetHours} hours from UTC, in the same form as {@link #getRelativeToLocal()}.
+     */
+    public String getRelativeTo(double localOffsetHours) {
+        double diff = tzOffset - localOffsetHours;
 
         if (diff == 0) {
             return "Same as system time";
@@ -91,12 +97,20 @@ public class Timezone {
 
     @Override
     public String toString() {
+        return toDisplayString(getLocalOffsetHours());
+    }
+
+    /**
+     * Returns the same text as {@link #toString()}, for a system time that is {@code localOffsetHours} hours from UTC
+     * instead of the current one.
+     */
+    public String toDisplayString(double localOffsetHours) {
         if (tzOffset == NO_TIMEZONE) {
             return "No Timezone Specified";
         }
 
         String baseTz = "UTC" + ((tzOffset >= 0) ? "+" : "") + tzOffset;
-        String relative = getRelativeToLocal();
+        String relative = getRelativeTo(localOffsetHours);
 
         // Only show relative if different from base or NO_TIMEZONE
         if (!relative.equals(baseTz)) {
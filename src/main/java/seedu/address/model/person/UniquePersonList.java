@@ -3,8 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +27,47 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is its name, a name-keyed index of list positions is kept alongside the list so that
+ * identity checks and slot lookups do not need to scan the whole list. A removal only marks the positions after the
+ * removed slot as stale; they are renumbered in one pass the next time one of them is looked up.
+ * The secondary indexes, including the presorted orders of {@link PersonComparators}, are updated before the list
+ * reports a change, so listeners of the list can already query them.
+ *
+ * Changes made between {@link #beginBatch()} and {@link #commitBatch()} go to a private copy of the list, and are
+ * reported to the observable list as a single change when the batch is committed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final int NO_STALE_POSITION = Integer.MAX_VALUE;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private int firstStalePosition = NO_STALE_POSITION;
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final List<PersonOrderIndex> orderIndexes = List.of(
+            new PersonOrderIndex(PersonComparators.BY_NAME_ASCENDING, PersonComparators.BY_NAME_DESCENDING),
+            new PersonOrderIndex(PersonComparators.BY_DATE_ADDED_ASCENDING,
+                    PersonComparators.BY_DATE_ADDED_DESCENDING));
+    private final List<PersonIndex> indexes = List.of(nameTokenIndex, tagIndex, orderIndexes.get(0),
+            orderIndexes.get(1));
+
+    /** The persons as changed by the open batch, or null if there is no open batch. */
+    private List<Person> batchList;
+    private int batchDepth;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +79,35 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        positions.put(toAdd.getName(), persons().size());
+        indexes.forEach(personIndex -> personIndex.add(toAdd));
+        persons().add(toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list at once, which updates the indexes in bulk and reports a single
+     * change.
+     * None of the persons may already exist in the list, or be the same person as another of them.
+     *
+     * @throws DuplicatePersonException naming every colliding name if any person would be a duplicate.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> addedPositions = new HashMap<>(toAdd.size() * 2);
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            Name name = toAdd.get(i).getName();
+            if (positions.containsKey(name) || addedPositions.putIfAbsent(name, persons().size() + i) != null) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateNames));
+        }
+
+        positions.putAll(addedPositions);
+        indexes.forEach(personIndex -> personIndex.addAll(toAdd));
+        persons().addAll(toAdd);
     }
 
     /**
@@ -56,7 +118,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +127,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = persons().get(index);
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        for (PersonIndex personIndex : indexes) {
+            personIndex.remove(replacedPerson);
+            personIndex.add(editedPerson);
+        }
+        persons().set(index, editedPerson);
     }
 
     /**
@@ -74,27 +143,179 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removedPerson = persons().get(index);
+        positions.remove(toRemove.getName());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        indexes.forEach(personIndex -> personIndex.remove(removedPerson));
+        persons().remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        firstStalePosition = replacement.firstStalePosition;
+        rebuildIndexes(replacement.persons());
+        setAll(replacement.persons());
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming every colliding name if {@code persons} contains duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Integer> replacementPositions = new HashMap<>(persons.size() * 2);
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Name name = persons.get(i).getName();
+            if (replacementPositions.putIfAbsent(name, i) != null) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateNames));
+        }
+
+        positions.clear();
+        positions.putAll(replacementPositions);
+        firstStalePosition = NO_STALE_POSITION;
+        rebuildIndexes(persons);
+        setAll(persons);
+    }
+
+    /**
+     * Returns the persons whose names match {@code predicate}, looked up in the name index.
+     * {@code predicate} must be {@link NameContainsKeywordsPredicate#isIndexable() indexable}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findMatches(nameTokenIndex);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code predicate}, looked up in the tag index.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findByTags(TagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findMatches(tagIndex);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the order of {@code comparator}, if it is one of the
+     * {@link PersonComparators} orders, which are kept presorted. The view follows later changes to the list.
+     */
+    public Optional<List<Person>> getPersonsInOrder(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return orderIndexes.stream()
+                .filter(orderIndex -> orderIndex.hasOrder(comparator))
+                .findFirst()
+                .map(orderIndex -> orderIndex.getPersons(comparator));
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose names are closest to the keywords of {@code predicate}, ordered by
+     * their {@link NameContainsKeywordsPredicate#getMinimumDistance(Person) minimum distance} and then by their
+     * position in the list.
+     * Name words are visited closest first, and the search stops once no remaining word can displace a person from
+     * the result, so each word's distance is computed at most once and far away words are never compared.
+     */
+    public List<Person> findClosestByName(NameContainsKeywordsPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        int resultSize = Math.min(limit, persons().size());
+        List<String> searchTerms = predicate.getSearchTerms();
+        if (searchTerms.isEmpty()) {
+            return new ArrayList<>(persons().subList(0, resultSize));
+        }
+        if (resultSize == 0) {
+            return new ArrayList<>();
         }
 
-        internalList.setAll(persons);
+        List<WordBkTree.NearestWords> nearestWords = searchTerms.stream()
+                .map(nameTokenIndex::getNearestWords)
+                .collect(Collectors.toList());
+        Set<Person> rankedPersons = PersonIndex.newPersonSet();
+        // Holds the best persons found so far, worst first, so the person to displace is always at the head
+        PriorityQueue<RankedPerson> closest =
+                new PriorityQueue<>(resultSize + 1, RankedPerson.CLOSEST_FIRST.reversed());
+
+        WordBkTree.NearestWords next = getClosest(nearestWords);
+        while (next != null) {
+            int distance = next.peekDistance();
+            if (closest.size() == resultSize && distance > closest.peek().distance) {
+                break;
+            }
+            for (Person person : nameTokenIndex.getPersonsWithWord(next.next())) {
+                // Words come out in order of distance, so the first one seen for a person is its closest
+                if (!rankedPersons.add(person)) {
+                    continue;
+                }
+                closest.add(new RankedPerson(person, distance, indexOf(person)));
+                if (closest.size() > resultSize) {
+                    closest.poll();
+                }
+            }
+            if (closest.size() == resultSize) {
+                // Farther words cannot displace anyone, so their distances need not be computed in full
+                int maxDistance = closest.peek().distance;
+                nearestWords.forEach(words -> words.limitDistance(maxDistance));
+            }
+            next = getClosest(nearestWords);
+        }
+
+        return closest.stream()
+                .sorted(RankedPerson.CLOSEST_FIRST)
+                .map(rankedPerson -> rankedPerson.person)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()}, the observable list keeps showing the
+     * persons as they were before the batch, while every other method already sees the changes.
+     * Batches may be nested, in which case only the outermost commit reports the changes.
+     */
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            batchList = new ArrayList<>(internalList);
+        }
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. Ending the outermost batch replaces the contents
+     * of the observable list with the changed persons in a single change, unless it still holds the very same persons.
+     * Persons are compared by identity, as the indexes are, since an edit can leave a person equal to the original.
+     */
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to commit");
+        }
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+
+        List<Person> changedPersons = batchList;
+        batchList = null;
+        if (!isSamePersons(changedPersons, internalList)) {
+            internalList.setAll(changedPersons);
+        }
+    }
+
+    /**
+     * Returns true if there is a batch that has not been committed yet.
+     */
+    public boolean isInBatch() {
+        return batchDepth > 0;
     }
 
     /**
@@ -106,7 +327,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return persons().iterator();
     }
 
     @Override
@@ -121,30 +342,110 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return persons().equals(otherUniquePersonList.persons());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return persons().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return persons().toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the cursor whose next word is the closest, or null if every cursor is exhausted.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static WordBkTree.NearestWords getClosest(List<WordBkTree.NearestWords> nearestWords) {
+        WordBkTree.NearestWords closest = null;
+        for (WordBkTree.NearestWords candidate : nearestWords) {
+            if (candidate.hasNext() && (closest == null || candidate.peekDistance() < closest.peekDistance())) {
+                closest = candidate;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        if (index == null) {
+            return -1;
+        }
+        if (index >= firstStalePosition) {
+            renumberStalePositions();
+            index = positions.get(person.getName());
+        }
+        return persons().get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns true if {@code persons} and {@code otherPersons} hold the same person instances in the same order.
+     */
+    private static boolean isSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the list that changes go to, which is the copy of the open batch if there is one.
+     */
+    private List<Person> persons() {
+        return batchList != null ? batchList : internalList;
+    }
+
+    private void setAll(List<Person> persons) {
+        if (batchList != null) {
+            batchList = new ArrayList<>(persons);
+        } else {
+            internalList.setAll(persons);
+        }
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        for (PersonIndex personIndex : indexes) {
+            personIndex.clear();
+            personIndex.addAll(persons);
+        }
+    }
+
+    /**
+     * Brings the positions of all persons after the first removed slot up to date.
+     */
+    private void renumberStalePositions() {
+        for (int i = firstStalePosition; i < persons().size(); i++) {
+            positions.put(persons().get(i).getName(), i);
+        }
+        firstStalePosition = NO_STALE_POSITION;
+    }
+
+    /**
+     * A person in a fuzzy search result, with the values it is ranked by.
+     */
+    private static class RankedPerson {
+        private static final Comparator<RankedPerson> CLOSEST_FIRST = Comparator
+                .comparingInt((RankedPerson rankedPerson) -> rankedPerson.distance)
+                .thenComparingInt(rankedPerson -> rankedPerson.position);
+
+        private final Person person;
+        private final int distance;
+        private final int position;
+
+        RankedPerson(Person person, int distance, int position) {
+            this.person = person;
+            this.distance = distance;
+            this.position = position;
+        }
+    }
 }
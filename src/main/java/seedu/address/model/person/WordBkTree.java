@@ -0,0 +1,213 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, keyed by Levenshtein distance, that finds the words closest to a target without computing
+ * the distance to every word.
+ *
+ * Words cannot be removed from the tree; callers that need removal should skip words they no longer hold and
+ * rebuild the tree once enough of them have accumulated.
+ */
+class WordBkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree.
+     *
+     * @return true if the word was not already in the tree.
+     */
+    boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getLevenshteinDistance(node.word, word);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                node.maxChildDistance = Math.max(node.maxChildDistance, distance);
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns a cursor over the words of the tree in order of increasing distance from {@code target}.
+     * The tree must not be modified while the cursor is in use.
+     */
+    NearestWords getNearestWords(String target) {
+        requireNonNull(target);
+        return new NearestWords(target);
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Visits the nodes of the tree best-first, so that each word's distance to the target is computed at most once
+     * and only for nodes that could hold a word no farther than the ones already returned.
+     * Once {@link #limitDistance(int) limited}, distances are only computed as far as the limit can still matter.
+     */
+    class NearestWords {
+        private final String target;
+        private int maxDistance = Integer.MAX_VALUE;
+        private final PriorityQueue<PendingNode> pendingNodes =
+                new PriorityQueue<>(Comparator.comparingInt(PendingNode::getMinDistance));
+        private final PriorityQueue<FoundWord> foundWords =
+                new PriorityQueue<>(Comparator.comparingInt(FoundWord::getDistance));
+
+        private NearestWords(String target) {
+            this.target = target;
+            if (root != null) {
+                pendingNodes.add(new PendingNode(root, 0));
+            }
+        }
+
+        /**
+         * Returns true if there are words left.
+         */
+        boolean hasNext() {
+            settle();
+            return !foundWords.isEmpty() && foundWords.peek().getDistance() <= maxDistance;
+        }
+
+        /**
+         * Skips every word farther than {@code maxDistance} from the target from now on.
+         * The limit can only be lowered.
+         */
+        void limitDistance(int maxDistance) {
+            this.maxDistance = Math.min(this.maxDistance, maxDistance);
+        }
+
+        /**
+         * Returns the distance of the next word, which is no smaller than that of any word returned before.
+         */
+        int peekDistance() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return foundWords.peek().getDistance();
+        }
+
+        /**
+         * Returns the next closest word.
+         */
+        String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return foundWords.poll().getWord();
+        }
+
+        /**
+         * Expands pending nodes until the closest found word is known to be no farther than any unvisited word.
+         */
+        private void settle() {
+            while (!pendingNodes.isEmpty() && pendingNodes.peek().getMinDistance() <= maxDistance
+                    && (foundWords.isEmpty()
+                    || pendingNodes.peek().getMinDistance() < foundWords.peek().getDistance())) {
+                PendingNode pendingNode = pendingNodes.poll();
+                Node node = pendingNode.getNode();
+                // Beyond this bound neither the node nor any of its subtrees can be within the limit
+                int bound = maxDistance > Integer.MAX_VALUE - node.maxChildDistance
+                        ? Integer.MAX_VALUE
+                        : maxDistance + node.maxChildDistance;
+                int distance = StringUtil.getLevenshteinDistance(node.word, target, bound);
+                if (distance > bound) {
+                    continue;
+                }
+                if (distance <= maxDistance) {
+                    foundWords.add(new FoundWord(node.word, distance));
+                }
+                // By the triangle inequality, every word under the child at edge e is at least |distance - e|
+                // away from the target.
+                for (Map.Entry<Integer, Node> entry : node.children.entrySet()) {
+                    int childMinDistance = Math.max(pendingNode.getMinDistance(),
+                            Math.abs(distance - entry.getKey()));
+                    if (childMinDistance <= maxDistance) {
+                        pendingNodes.add(new PendingNode(entry.getValue(), childMinDistance));
+                    }
+                }
+            }
+        }
+    }
+
+    private static class PendingNode {
+        private final Node node;
+        private final int minDistance;
+
+        PendingNode(Node node, int minDistance) {
+            this.node = node;
+            this.minDistance = minDistance;
+        }
+
+        Node getNode() {
+            return node;
+        }
+
+        int getMinDistance() {
+            return minDistance;
+        }
+    }
+
+    private static class FoundWord {
+        private final String word;
+        private final int distance;
+
+        FoundWord(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        String getWord() {
+            return word;
+        }
+
+        int getDistance() {
+            return distance;
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private int maxChildDistance;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
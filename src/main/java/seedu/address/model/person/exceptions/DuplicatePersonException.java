@@ -1,11 +1,25 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private static final String MESSAGE = "Operation would result in duplicate persons";
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE);
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the names shared by more than one person.
+     */
+    public DuplicatePersonException(List<Name> duplicateNames) {
+        super(MESSAGE + ": " + duplicateNames.stream().map(Name::toString).collect(Collectors.joining(", ")));
     }
 }
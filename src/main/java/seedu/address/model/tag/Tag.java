@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Tag in the address book.
@@ -29,7 +30,15 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
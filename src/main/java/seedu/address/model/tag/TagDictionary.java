@@ -0,0 +1,159 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Interns tags, so that every tag name is held by a single canonical {@code Tag} with a small integer id.
+ * Persons store the ids of their tags instead of their own tag sets.
+ * Tags are only interned when a {@code Person} is created with them, so names that fail validation, or that only
+ * appear in a rejected command or data file, take no id. Ids are never reused or freed; they are bounded by the
+ * number of distinct tag names of persons created while the application runs, which is expected to stay small.
+ */
+public class TagDictionary {
+
+    private static final TagDictionary INSTANCE = new TagDictionary();
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final List<Tag> tagsById = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the dictionary shared by the whole application.
+     */
+    public static TagDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the canonical tag named {@code tagName}, creating it if there is none yet.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public Tag intern(String tagName) {
+        requireNonNull(tagName);
+        return tagsById.get(getId(tagName));
+    }
+
+    /**
+     * Returns the canonical tag equal to {@code tag}.
+     */
+    public Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return intern(tag.tagName);
+    }
+
+    /**
+     * Returns the id of {@code tag}, interning it if needed.
+     */
+    public int getId(Tag tag) {
+        requireNonNull(tag);
+        return getId(tag.tagName);
+    }
+
+    /**
+     * Returns true if a tag named {@code tagName} has been interned.
+     */
+    public boolean isInterned(String tagName) {
+        requireNonNull(tagName);
+        return findId(tagName) >= 0;
+    }
+
+    /**
+     * Returns the canonical tag with the given {@code id}.
+     */
+    public Tag getTag(int id) {
+        return tagsById.get(id);
+    }
+
+    /**
+     * Returns the ids of {@code tags} in ascending order.
+     */
+    public int[] getIds(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return tags.stream().mapToInt(this::getId).distinct().sorted().toArray();
+    }
+
+    /**
+     * Returns an unmodifiable set view of the tags with the given ascending {@code ids}.
+     */
+    public Set<Tag> asTagSet(int[] ids) {
+        requireNonNull(ids);
+        return Collections.unmodifiableSet(new TagIdSet(ids));
+    }
+
+    private int getId(String tagName) {
+        Integer id = idsByName.get(tagName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            return idsByName.computeIfAbsent(tagName, name -> {
+                tagsById.add(new Tag(name));
+                return tagsById.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Returns the id of the tag named {@code tagName}, or -1 if no such tag has been interned.
+     */
+    private int findId(String tagName) {
+        return idsByName.getOrDefault(tagName, -1);
+    }
+
+    /**
+     * A set of tags backed by their ascending ids.
+     */
+    private class TagIdSet extends AbstractSet<Tag> {
+        private final int[] ids;
+
+        TagIdSet(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            if (!(other instanceof Tag)) {
+                return false;
+            }
+            int id = findId(((Tag) other).tagName);
+            return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < ids.length;
+                }
+
+                @Override
+                public Tag next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return getTag(ids[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
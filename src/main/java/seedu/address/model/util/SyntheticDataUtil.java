@@ -0,0 +1,186 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateAdded;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Timezone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains utility methods for generating large, realistic address books, e.g. for load tests and benchmarks.
+ * Unlike {@link SampleDataUtil}, the persons are random, but the same seed always gives the same persons.
+ *
+ * Many persons share first and last names, as in real address books; their full names are kept distinct by a
+ * trailing letter code. A few tags are far more common than the rest, most persons are in a handful of timezones,
+ * and the dates added are spread over several years.
+ */
+public class SyntheticDataUtil {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei", "Siti", "Priya", "Kenji", "Ming", "Hui",
+        "Jun", "Mei", "Aisha", "Nur", "Ravi", "Arjun", "Deepa", "Kumar", "John", "Mary", "James", "Sarah", "Michael",
+        "Emma", "Daniel", "Olivia", "Lucas", "Sofia", "Hiroshi", "Yuki", "Minh", "Linh", "Anh", "Jia", "Xin", "Hao",
+        "Farah", "Omar", "Hana", "Ethan", "Chloe", "Ryan", "Grace", "Marcus", "Rachel", "Benjamin", "Zoe", "Isaac"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh",
+        "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia", "Abdullah",
+        "Rahman", "Hassan", "Ismail", "Kumar", "Singh", "Menon", "Nair", "Pillai", "Smith", "Brown", "Wilson",
+        "Taylor", "Nguyen", "Tran", "Sato", "Suzuki", "Takahashi", "Kim", "Park", "Choi", "Garcia", "Martin", "Silva"
+    };
+    private static final String[] STREETS = {
+        "Ang Mo Kio Ave 3", "Bedok North Rd", "Clementi Ave 2", "Geylang Street 29", "Jurong West Ave 6",
+        "Lorong 3 Serangoon Gardens", "Pasir Ris Dr 1", "Punggol Field", "Tampines St 81", "Woodlands Ring Rd",
+        "Yishun Ave 11", "Toa Payoh Lor 8", "Bukit Batok East Ave 5", "Hougang Ave 10", "Sengkang East Way"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "u.nus.edu", "company.com.sg"};
+    private static final String[] TAGS = {
+        "friends", "colleagues", "family", "client", "neighbours", "classmates", "vip", "supplier", "gym", "church",
+        "badminton", "cca", "project", "mentor", "owesMoney", "investor", "alumni", "landlord", "doctor", "tutor"
+    };
+    private static final double[] TIMEZONES = {8, 8, 8, 8, 8, 8, 0, 1, -5, -8, 5.5, 9, 10, Timezone.NO_TIMEZONE};
+    private static final String[] NOTES = {
+        "Likes to swim.", "Met at the career fair.", "Prefers email over calls.", "Birthday in March.",
+        "Vegetarian.", "Call after 6pm.", "Owes me lunch."
+    };
+
+    private static final int MAX_TAGS_PER_PERSON = 3;
+    private static final double NOTE_PROBABILITY = 0.2;
+    private static final Instant FIRST_DATE_ADDED = Instant.parse("2019-01-01T00:00:00Z");
+    private static final long DATE_ADDED_SPAN_SECONDS = 6L * 365 * 24 * 60 * 60;
+
+    /** Cumulative weights of {@code TAGS}, where the tag of rank r has weight 1 / (r + 1). */
+    private static final double[] TAG_CUMULATIVE_WEIGHTS = getTagCumulativeWeights();
+
+    /**
+     * Returns {@code count} generated persons with distinct names, generated one at a time as they are iterated over,
+     * so that even very large address books can be written out without holding them in memory.
+     *
+     * @param seed determines the persons generated.
+     */
+    public static Iterator<Person> getSyntheticPersons(long seed, int count) {
+        checkArgument(count >= 0, "count cannot be negative");
+        return new SyntheticPersonIterator(seed, count);
+    }
+
+    /**
+     * Returns an address book of the persons given by {@link #getSyntheticPersons(long, int)}.
+     */
+    public static ReadOnlyAddressBook getSyntheticAddressBook(long seed, int count) {
+        List<Person> persons = new ArrayList<>(count);
+        getSyntheticPersons(seed, count).forEachRemaining(persons::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static double[] getTagCumulativeWeights() {
+        double[] cumulativeWeights = new double[TAGS.length];
+        double total = 0;
+        for (int rank = 0; rank < TAGS.length; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulativeWeights[rank] = total;
+        }
+        return cumulativeWeights;
+    }
+
+    /**
+     * Generates the persons of {@link #getSyntheticPersons(long, int)}.
+     */
+    private static class SyntheticPersonIterator implements Iterator<Person> {
+
+        private final Random random;
+        private final int count;
+        /** Number of persons generated so far with each first and last name pair. */
+        private final int[] nameUseCounts = new int[FIRST_NAMES.length * LAST_NAMES.length];
+        private int generatedCount;
+
+        SyntheticPersonIterator(long seed, int count) {
+            this.random = new Random(seed);
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generatedCount < count;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            generatedCount++;
+
+            int firstNameIndex = random.nextInt(FIRST_NAMES.length);
+            int lastNameIndex = random.nextInt(LAST_NAMES.length);
+            String firstName = FIRST_NAMES[firstNameIndex];
+            String lastName = LAST_NAMES[lastNameIndex];
+            int nameUseCount = nameUseCounts[firstNameIndex * LAST_NAMES.length + lastNameIndex]++;
+            String fullName = nameUseCount == 0
+                    ? firstName + " " + lastName
+                    : firstName + " " + lastName + " " + toLetterCode(nameUseCount);
+
+            String emailLocalPart = firstName.toLowerCase() + "." + lastName.toLowerCase()
+                    + (nameUseCount == 0 ? "" : String.valueOf(nameUseCount));
+            Email email = new Email(emailLocalPart + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]);
+
+            Phone phone = new Phone(String.valueOf((random.nextBoolean() ? 80000000 : 90000000)
+                    + random.nextInt(10000000)));
+            Address address = new Address("Blk " + (random.nextInt(999) + 1) + " "
+                    + STREETS[random.nextInt(STREETS.length)] + ", #" + String.format("%02d-%02d",
+                    random.nextInt(30) + 1, random.nextInt(200) + 1));
+            Timezone timezone = new Timezone(TIMEZONES[random.nextInt(TIMEZONES.length)]);
+            DateAdded dateAdded = new DateAdded(FIRST_DATE_ADDED.plusSeconds(
+                    (long) (random.nextDouble() * DATE_ADDED_SPAN_SECONDS)).plusNanos(random.nextInt(1000000000)));
+            Note note = new Note(random.nextDouble() < NOTE_PROBABILITY ? NOTES[random.nextInt(NOTES.length)] : "");
+
+            return new Person(new Name(fullName), phone, email, address, getTags(), timezone, dateAdded, note);
+        }
+
+        private Set<Tag> getTags() {
+            int tagCount = random.nextInt(MAX_TAGS_PER_PERSON + 1);
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(TAGS[getSkewedTagIndex()]));
+            }
+            return tags;
+        }
+
+        private int getSkewedTagIndex() {
+            double target = random.nextDouble() * TAG_CUMULATIVE_WEIGHTS[TAG_CUMULATIVE_WEIGHTS.length - 1];
+            int index = Arrays.binarySearch(TAG_CUMULATIVE_WEIGHTS, target);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * Returns {@code number} written in base 26 with the letters A to Z, most significant letter last.
+         */
+        private static String toLetterCode(int number) {
+            StringBuilder letterCode = new StringBuilder();
+            do {
+                letterCode.append((char) ('A' + number % 26));
+                number /= 26;
+            } while (number > 0);
+            return letterCode.toString();
+        }
+    }
+}
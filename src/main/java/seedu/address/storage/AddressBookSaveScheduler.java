@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Decides when changes to the address book are written to {@code AddressBookStorage}.
+ * An immediate scheduler writes on the caller's thread. A debounced scheduler takes a snapshot of the address book
+ * and writes it on a background thread after a delay, so that a burst of changes results in a single write of the
+ * latest snapshot.
+ */
+public class AddressBookSaveScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveScheduler.class);
+
+    private final AddressBookStorage storage;
+    private final ScheduledExecutorService executor;
+    private final long delayMillis;
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingSnapshot;
+    private IOException lastFailure;
+
+    private AddressBookSaveScheduler(AddressBookStorage storage, ScheduledExecutorService executor, long delayMillis) {
+        this.storage = storage;
+        this.executor = executor;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Returns a scheduler that writes every change to {@code storage} as soon as it is scheduled.
+     */
+    public static AddressBookSaveScheduler immediate(AddressBookStorage storage) {
+        requireNonNull(storage);
+        return new AddressBookSaveScheduler(storage, null, 0);
+    }
+
+    /**
+     * Returns a scheduler that writes to {@code storage} on a background thread, at most {@code delayMillis}
+     * milliseconds after the first of a burst of changes.
+     */
+    public static AddressBookSaveScheduler debounced(AddressBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new AddressBookSaveScheduler(storage, executor, delayMillis);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved.
+     * A debounced scheduler copies the person list before returning, so {@code addressBook} may be modified
+     * afterwards.
+     *
+     * @throws IOException if an immediate write fails, or if the previous background write failed. In the latter
+     *     case the new snapshot is still scheduled.
+     */
+    public void schedule(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (executor == null) {
+            storage.saveAddressBook(addressBook);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        IOException failure;
+        synchronized (this) {
+            if (pendingSnapshot == null) {
+                executor.schedule(this::writePendingSnapshot, delayMillis, TimeUnit.MILLISECONDS);
+            }
+            pendingSnapshot = snapshot;
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes any scheduled snapshot now and waits for it to finish.
+     *
+     * @throws IOException if the write, or an earlier background write that has not been reported yet, failed.
+     */
+    public void flush() throws IOException {
+        if (executor == null) {
+            return;
+        }
+
+        try {
+            executor.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not save the address book", e.getCause());
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Flushes the scheduled snapshot and stops the background thread. No more changes may be scheduled afterwards.
+     *
+     * @throws IOException if the final write failed.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Writes the latest scheduled snapshot, if there is one. Runs on the background thread, so writes never overlap
+     * and always happen in the order they were scheduled.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                lastFailure = e;
+            }
+        }
+    }
+
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
+}
@@ -0,0 +1,458 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.ContactDetails;
+import seedu.address.model.person.DateAdded;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Timezone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header of {@link #MAGIC} and the format version, followed by a table of every distinct tag
+ * name, and then the persons. Each person is a record prefixed with its length in bytes, holding the person's fields
+ * as length-prefixed UTF-8 strings, its tags as positions in the tag table, and its timezone as a double. Lengths
+ * and positions are written as variable-length integers, so most take a single byte. The record
+ * length lets a reader step over a record without decoding it. The file ends with a CRC-32 checksum of everything
+ * before it.
+ *
+ * The file is read into memory whole, and every field is validated up front, so an invalid file is rejected when it
+ * is read as a json one is. Only the fields that the model indexes are turned into objects up front, though. The
+ * contact details of each person are created from the file's bytes when first needed, e.g. when the person is shown,
+ * and the bytes are released once every person's details have been created.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every binary address book file, "AB3B" in ASCII. */
+    public static final int MAGIC = 0x41423342;
+    public static final int VERSION = 2;
+
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Converts the json address book at {@code jsonFilePath} into a binary address book at {@code binaryFilePath}.
+     *
+     * @throws NoSuchFileException if there is no file at {@code jsonFilePath}.
+     * @throws DataLoadingException if the json address book could not be loaded.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws IOException, DataLoadingException {
+        requireNonNull(binaryFilePath);
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFilePath.toString()));
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the binary address book at {@code binaryFilePath} into a json address book at {@code jsonFilePath}.
+     *
+     * @throws NoSuchFileException if there is no file at {@code binaryFilePath}.
+     * @throws DataLoadingException if the binary address book could not be loaded.
+     */
+    public static void convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws IOException, DataLoadingException {
+        requireNonNull(jsonFilePath);
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(binaryFilePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(binaryFilePath.toString()));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deals with a temporary file left behind by a crashed save of {@code filePath} in any of the file formats; see
+     * {@link FileUtil#recoverFromTempFile(Path, FileUtil.ContentChecker)}.
+     * A binary temporary file is complete if it ends with the checksum of its content.
+     */
+    static void recoverFromTempFile(Path filePath) {
+        FileUtil.recoverFromTempFile(filePath, file -> {
+            if (!isBinaryFile(file)) {
+                JsonUtil.checkCompleteJsonFile(file);
+                return;
+            }
+            byte[] data = Files.readAllBytes(file);
+            RecordReader header = new RecordReader(data, 0, data.length);
+            header.readInt();
+            if (header.readInt() != VERSION) {
+                throw new IOException("Not written by this version of the binary format");
+            }
+            verifyChecksum(data, data.length - CHECKSUM_LENGTH);
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The contact details of the persons are decoded lazily; see {@link BinaryAddressBookStorage}.
+     * A json address book, along with its journal if it has one, is read as well, so that switching the file format
+     * in the user prefs keeps the data; it is converted at the next save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        recoverFromTempFile(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info(filePath + " is not a binary address book, reading it as json");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(readPersons(Files.readAllBytes(filePath))));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Failed to load " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> writePersons(addressBook.getPersonList(), out));
+    }
+
+    private static void writePersons(List<Person> persons, OutputStream out) throws IOException {
+        Map<String, Integer> tagPositions = new HashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagPositions.putIfAbsent(tag.tagName, tagPositions.size());
+            }
+        }
+        String[] tagNames = new String[tagPositions.size()];
+        tagPositions.forEach((tagName, position) -> tagNames[position] = tagName);
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream dataOut = new DataOutputStream(checkedOut);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+        dataOut.writeInt(tagNames.length);
+        for (String tagName : tagNames) {
+            writeString(dataOut, tagName);
+        }
+
+        dataOut.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, person.getEmail().value);
+            writeString(record, person.getAddress().value);
+            writeVarInt(record, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarInt(record, tagPositions.get(tag.tagName));
+            }
+            record.writeDouble(person.getTimezone().tzOffset);
+            writeString(record, person.getDateAdded().toString());
+            writeString(record, person.getNote().value);
+
+            writeVarInt(dataOut, recordBytes.size());
+            recordBytes.writeTo(dataOut);
+        }
+        dataOut.flush();
+        new DataOutputStream(out).writeInt((int) checkedOut.getChecksum().getValue());
+    }
+
+    private static List<Person> readPersons(byte[] data) throws IOException, IllegalValueException {
+        RecordReader header = new RecordReader(data, 0, data.length);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = header.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+        int end = data.length - CHECKSUM_LENGTH;
+        verifyChecksum(data, end);
+        RecordReader in = new RecordReader(data, header.position, end);
+
+        int tagCount = in.readCount();
+        List<Tag> tags = new ArrayList<>(Math.min(tagCount, end));
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = in.readString();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int personCount = in.readCount();
+        List<Person> persons = new ArrayList<>(Math.min(personCount, end));
+        for (int i = 0; i < personCount; i++) {
+            int recordLength = in.readVarInt();
+            int recordStart = in.position;
+            in.skip(recordLength);
+            persons.add(readPerson(new RecordReader(data, recordStart, recordStart + recordLength), tags));
+        }
+        if (in.position != end) {
+            throw new IOException("Unexpected data after the last person");
+        }
+        return persons;
+    }
+
+    private static void verifyChecksum(byte[] data, int end) throws IOException {
+        if (end < 0) {
+            throw new EOFException();
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(data, 0, end);
+        if ((int) checksum.getValue() != new RecordReader(data, end, data.length).readInt()) {
+            throw new IOException("Checksum mismatch, the file is corrupt");
+        }
+    }
+
+    /**
+     * Decodes the name, tags, timezone and date added in {@code record}, and validates the contact details but leaves
+     * them to be decoded into the person when they are needed.
+     */
+    private static Person readPerson(RecordReader record, List<Tag> tags) throws IOException, IllegalValueException {
+        String name = record.readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        int detailsStart = record.position;
+        if (!Phone.isValidPhone(record.readString())) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(record.readString())) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(record.readString())) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int personTagCount = record.readVarInt();
+        Set<Tag> personTags = new HashSet<>();
+        for (int j = 0; j < personTagCount; j++) {
+            int tagPosition = record.readVarInt();
+            if (tagPosition >= tags.size()) {
+                throw new IOException("Tag " + tagPosition + " is not in the tag table");
+            }
+            personTags.add(tags.get(tagPosition));
+        }
+
+        double timezone = record.readDouble();
+        if (!Timezone.isValidTz(timezone)) {
+            throw new IllegalValueException(Timezone.MESSAGE_CONSTRAINTS);
+        }
+
+        DateAdded dateAdded;
+        try {
+            dateAdded = new DateAdded(Instant.parse(record.readString()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(DateAdded.MESSAGE_CONSTRAINTS);
+        }
+
+        int noteStart = record.position;
+        record.skipString();
+        if (record.position != record.end) {
+            throw new IOException("Unexpected data at the end of a person");
+        }
+
+        byte[] data = record.data;
+        int recordEnd = record.end;
+        return new Person(new Name(name), personTags, new Timezone(timezone), dateAdded, () ->
+                readDetails(data, detailsStart, noteStart, recordEnd));
+    }
+
+    /**
+     * Decodes the contact details of a person whose record was read by {@link #readPerson(RecordReader, List)}.
+     */
+    private static ContactDetails readDetails(byte[] data, int detailsStart, int noteStart, int recordEnd) {
+        try {
+            RecordReader details = new RecordReader(data, detailsStart, noteStart);
+            Phone phone = new Phone(details.readString());
+            Email email = new Email(details.readString());
+            Address address = new Address(details.readString());
+            Note note = new Note(new RecordReader(data, noteStart, recordEnd).readString());
+            return new ContactDetails(phone, email, address, note);
+        } catch (IOException e) {
+            throw new IllegalStateException("The bounds of the details were checked when the file was read", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as it needs, seven bits per byte, least significant first.
+     * The high bit of each byte is set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while (value >= 0x80) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads the values in a range of the file's bytes, as written by a {@code DataOutputStream} and
+     * {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static class RecordReader {
+        private final byte[] data;
+        private final int end;
+        private int position;
+
+        RecordReader(byte[] data, int start, int end) {
+            this.data = data;
+            this.position = start;
+            this.end = end;
+        }
+
+        int readInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value = value << 8 | readUnsignedByte();
+            }
+            return value;
+        }
+
+        double readDouble() throws IOException {
+            long bits = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                bits = bits << 8 | readUnsignedByte();
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int nextByte = readUnsignedByte();
+                value |= (nextByte & 0x7F) << shift;
+                if ((nextByte & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IOException("Negative length " + value);
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Malformed length");
+        }
+
+        /**
+         * Reads a count from the header, which a corrupt file may have made negative.
+         */
+        int readCount() throws IOException {
+            int count = readInt();
+            if (count < 0) {
+                throw new IOException("Negative count " + count);
+            }
+            return count;
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            int start = position;
+            skip(length);
+            return new String(data, start, length, StandardCharsets.UTF_8);
+        }
+
+        void skipString() throws IOException {
+            skip(readVarInt());
+        }
+
+        void skip(int length) throws IOException {
+            if (length > end - position) {
+                throw new EOFException();
+            }
+            position += length;
+        }
+
+        private int readUnsignedByte() throws IOException {
+            if (position >= end) {
+                throw new EOFException();
+            }
+            return data[position++] & 0xFF;
+        }
+    }
+}
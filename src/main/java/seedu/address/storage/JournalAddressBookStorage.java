@@ -0,0 +1,366 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of the changes made
+ * since the snapshot was written.
+ * Each save appends only the records for the persons that changed, and fsyncs them once. Once the journal holds
+ * about as many records as there are persons, the next save writes a fresh snapshot and starts a new journal.
+ *
+ * The journal starts with a checksum of its snapshot, so a journal left behind by a crash after a new snapshot was
+ * written is recognised and ignored. A torn last record from a crash during an append is dropped as well.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    /** Returned by {@link #replayJournal} if the snapshot has no journal of its own. */
+    private static final int NO_JOURNAL = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int minRecordsBeforeCompaction;
+
+    /** The persons as last read from or written to {@code filePath}, or null if unknown. */
+    private List<Person> savedPersons;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} that does not compact journals shorter than
+     * {@code minRecordsBeforeCompaction} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int minRecordsBeforeCompaction) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.minRecordsBeforeCompaction = minRecordsBeforeCompaction;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A binary snapshot is read as well, so that switching the file format in the user prefs keeps the data; it is
+     * replaced by a json snapshot at the next save.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        BinaryAddressBookStorage.recoverFromTempFile(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? new BinaryAddressBookStorage(filePath).readAddressBook(filePath)
+                : JsonAddressBookStorage.readJsonAddressBook(filePath);
+        List<Person> persons = snapshot.map(addressBook -> new ArrayList<>(addressBook.getPersonList()))
+                .orElseGet(ArrayList::new);
+
+        int recordCount;
+        try {
+            recordCount = replayJournal(filePath, persons);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // Without a journal of this snapshot to append to, the next save writes a snapshot that starts one
+            savedPersons = recordCount == NO_JOURNAL ? null : persons;
+            journalRecordCount = Math.max(recordCount, 0);
+        }
+        if (!snapshot.isPresent() && recordCount <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes saved to this storage's own file path are journaled; other paths always get a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = savedPersons == null
+                ? Optional.empty()
+                : getChanges(savedPersons, persons);
+        if (records.isEmpty() || journalRecordCount + records.get().size() > getCompactionThreshold()) {
+            writeSnapshot(addressBook, filePath);
+            journalRecordCount = 0;
+        } else if (!records.get().isEmpty()) {
+            appendToJournal(getJournalPath(filePath), records.get());
+            journalRecordCount += records.get().size();
+        }
+        updateSavedPersons(persons);
+    }
+
+    /**
+     * Makes {@code savedPersons} hold {@code persons}.
+     * The list is updated in place rather than copied, so a save that only appends to the journal does not allocate
+     * a copy of the whole book.
+     */
+    private void updateSavedPersons(List<Person> persons) {
+        if (savedPersons == null) {
+            savedPersons = new ArrayList<>(persons);
+            return;
+        }
+
+        int commonSize = Math.min(savedPersons.size(), persons.size());
+        for (int k = 0; k < commonSize; k++) {
+            savedPersons.set(k, persons.get(k));
+        }
+        if (savedPersons.size() > persons.size()) {
+            savedPersons.subList(persons.size(), savedPersons.size()).clear();
+        } else {
+            savedPersons.addAll(persons.subList(commonSize, persons.size()));
+        }
+    }
+
+    private int getCompactionThreshold() {
+        return Math.max(minRecordsBeforeCompaction, savedPersons.size());
+    }
+
+    /**
+     * Returns the records that turn {@code oldPersons} into {@code newPersons}, or an empty {@code Optional} if the
+     * persons were reordered in a way that is simpler to save as a new snapshot.
+     * The persons are walked by identity, so an unchanged book or an edit in place allocates nothing beyond its
+     * records. The names of both books are only collected once a person is found that is not replaced in place.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> getChanges(List<Person> oldPersons, List<Person> newPersons) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!oldPersons.isEmpty() && newPersons.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.clear());
+            return Optional.of(records);
+        }
+
+        Set<Name> oldNames = null;
+        Set<Name> newNames = null;
+
+        // Replaying the records so far turns the list into newPersons[0, j) followed by oldPersons[i, end)
+        int i = 0;
+        int j = 0;
+        while (i < oldPersons.size() && j < newPersons.size()) {
+            Person oldPerson = oldPersons.get(i);
+            Person newPerson = newPersons.get(j);
+            if (oldPerson == newPerson || oldPerson.isSamePerson(newPerson)) {
+                // Persons are immutable, so an unchanged person is the very same object. Person#equals is not
+                // used as it ignores the date added.
+                if (oldPerson != newPerson) {
+                    records.add(JsonAdaptedJournalRecord.set(j, newPerson));
+                }
+                i++;
+                j++;
+                continue;
+            }
+
+            if (oldNames == null && !isAligned(oldPersons, i + 1, newPersons, j + 1)) {
+                oldNames = getNames(oldPersons);
+                newNames = getNames(newPersons);
+            }
+            if (oldNames != null && newNames.contains(oldPerson.getName())) {
+                return Optional.empty();
+            } else if (oldNames != null && oldNames.contains(newPerson.getName())) {
+                records.add(JsonAdaptedJournalRecord.remove(j));
+                i++;
+            } else {
+                // The person was replaced in place, e.g. renamed by an edit
+                records.add(JsonAdaptedJournalRecord.set(j, newPerson));
+                i++;
+                j++;
+            }
+        }
+        for (; i < oldPersons.size(); i++) {
+            records.add(JsonAdaptedJournalRecord.remove(j));
+        }
+        for (; j < newPersons.size(); j++) {
+            records.add(JsonAdaptedJournalRecord.add(newPersons.get(j)));
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Returns true if {@code oldPersons} from {@code oldIndex} on and {@code newPersons} from {@code newIndex} on
+     * both end, or both start with the same person.
+     */
+    private static boolean isAligned(List<Person> oldPersons, int oldIndex, List<Person> newPersons, int newIndex) {
+        if (oldIndex == oldPersons.size() || newIndex == newPersons.size()) {
+            return oldIndex == oldPersons.size() && newIndex == newPersons.size();
+        }
+        return oldPersons.get(oldIndex) == newPersons.get(newIndex);
+    }
+
+    private static Set<Name> getNames(List<Person> persons) {
+        return persons.stream().map(Person::getName).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code snapshotPath} and starts its journal afresh.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        JsonAdaptedJournalRecord base = JsonAdaptedJournalRecord.base(getChecksum(snapshotPath));
+        writeRecords(getJournalPath(snapshotPath), List.of(base), StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void appendToJournal(Path journalPath, List<JsonAdaptedJournalRecord> records) throws IOException {
+        writeRecords(journalPath, records, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code records} to the journal at {@code journalPath}, one per line, and forces them to disk.
+     */
+    private static void writeRecords(Path journalPath, List<JsonAdaptedJournalRecord> records,
+            StandardOpenOption mode) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the journal of the snapshot at {@code snapshotPath} to {@code persons}.
+     *
+     * @return the number of records applied, or {@link #NO_JOURNAL} if there is no journal of this snapshot.
+     */
+    private static int replayJournal(Path snapshotPath, List<Person> persons)
+            throws IOException, IllegalValueException {
+        Path journalPath = getJournalPath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return NO_JOURNAL;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return NO_JOURNAL;
+        }
+        JsonAdaptedJournalRecord base;
+        try {
+            base = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+        } catch (IOException e) {
+            // A crash while starting a new journal leaves its snapshot complete, so nothing is lost
+            logger.warning("Ignoring journal " + journalPath + " with an unreadable first record: " + e);
+            return NO_JOURNAL;
+        }
+        if (!base.isBaseOf(getChecksum(snapshotPath))) {
+            logger.info("Ignoring journal " + journalPath + " as it was written for an older snapshot");
+            return NO_JOURNAL;
+        }
+
+        int recordCount = 0;
+        for (int lineNumber = 1; lineNumber < lines.size(); lineNumber++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(lineNumber), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (lineNumber == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record of journal " + journalPath + ": " + e);
+                    break;
+                }
+                throw e;
+            }
+            record.applyTo(persons);
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns the checksum of the snapshot at {@code snapshotPath}, treating a missing snapshot as empty.
+     * The snapshot is streamed through the checksum, so it is never held in memory as a whole.
+     */
+    private static long getChecksum(Path snapshotPath) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return new CRC32().getValue();
+        }
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(snapshotPath), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change in an address book journal.
+ * Each record changes the person list the way one list operation does, so replaying the records of a journal in
+ * order on the persons of its snapshot gives back the persons as they were last saved.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record does not apply to the saved persons: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Operation {
+        /** Names the snapshot that the rest of the journal applies to. Always the first record. */
+        BASE,
+        /** Appends a person. */
+        ADD,
+        /** Replaces the person at an index. */
+        SET,
+        /** Removes the person at an index. */
+        REMOVE,
+        /** Removes every person. */
+        CLEAR
+    }
+
+    private final Operation operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns a record that starts a journal on top of the snapshot with the given {@code checksum}.
+     */
+    static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(Operation.BASE, null, null, checksum);
+    }
+
+    static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, null, new JsonAdaptedPerson(person), null);
+    }
+
+    static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET, index, new JsonAdaptedPerson(person), null);
+    }
+
+    static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE, index, null, null);
+    }
+
+    static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(Operation.CLEAR, null, null, null);
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns true if this is the {@code BASE} record of the snapshot with the given {@code snapshotChecksum}.
+     */
+    boolean isBaseOf(long snapshotChecksum) {
+        return operation == Operation.BASE && checksum != null && checksum == snapshotChecksum;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is incomplete or does not fit {@code persons}.
+     */
+    void applyTo(List<Person> persons) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case ADD:
+            persons.add(getPerson());
+            break;
+        case SET:
+            persons.set(getIndex(persons), getPerson());
+            break;
+        case REMOVE:
+            persons.remove(getIndex(persons));
+            break;
+        case CLEAR:
+            persons.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation));
+        }
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private int getIndex(List<Person> persons) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0 || index >= persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation + " " + index));
+        }
+        return index;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -135,10 +137,13 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 DateAdded.class.getSimpleName()));
         }
-        if (!DateAdded.isValidDateAdded(dateAdded)) {
+        final DateAdded modelDateAdded;
+        try {
+            // parsed once, as validating the string first and then constructing from it would parse it three times
+            modelDateAdded = new DateAdded(Instant.parse(dateAdded));
+        } catch (DateTimeParseException e) {
             throw new IllegalValueException(DateAdded.MESSAGE_CONSTRAINTS);
         }
-        final DateAdded modelDateAdded = new DateAdded(dateAdded);
 
         if (note == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
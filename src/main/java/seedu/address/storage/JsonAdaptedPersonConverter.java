@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on a fork-join pool, in chunks of
+ * {@link #CHUNK_SIZE} persons, as they are added. The persons are returned in the order they were added, and if any
+ * of them is invalid, the exception of the first invalid one is thrown, just as a sequential conversion would do.
+ *
+ * A converter is used once, by a single thread.
+ */
+class JsonAdaptedPersonConverter {
+
+    static final int CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final List<ForkJoinTask<ConvertedChunk>> convertedChunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Creates a converter that runs on the common fork-join pool.
+     */
+    JsonAdaptedPersonConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    JsonAdaptedPersonConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Queues {@code person} for conversion. A full chunk starts being converted in the background immediately.
+     */
+    void add(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        chunk.add(person);
+        if (chunk.size() == CHUNK_SIZE) {
+            List<JsonAdaptedPerson> fullChunk = chunk;
+            convertedChunks.add(pool.submit(() -> ConvertedChunk.of(fullChunk)));
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Returns the converted persons, in the order they were added.
+     * The last, partly filled chunk is converted by the calling thread while the pool finishes the others.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted persons.
+     */
+    List<Person> getPersons() throws IllegalValueException {
+        List<Person> lastChunk;
+        try {
+            lastChunk = convert(chunk);
+        } catch (IllegalValueException ive) {
+            if (convertedChunks.isEmpty()) {
+                throw ive;
+            }
+            // an earlier chunk may hold an earlier invalid person, whose exception takes precedence
+            joinAll();
+            throw ive;
+        }
+
+        List<Person> persons = joinAll();
+        persons.addAll(lastChunk);
+        return persons;
+    }
+
+    private List<Person> joinAll() throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(convertedChunks.size() * CHUNK_SIZE + chunk.size());
+        for (int i = 0; i < convertedChunks.size(); i++) {
+            ConvertedChunk convertedChunk;
+            try {
+                convertedChunk = convertedChunks.get(i).get();
+            } catch (ExecutionException e) {
+                cancelFrom(i + 1);
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelFrom(i);
+                throw new IllegalStateException(e);
+            }
+
+            if (convertedChunk.exception != null) {
+                cancelFrom(i + 1);
+                throw convertedChunk.exception;
+            }
+            persons.addAll(convertedChunk.persons);
+        }
+        return persons;
+    }
+
+    private void cancelFrom(int chunkIndex) {
+        convertedChunks.subList(chunkIndex, convertedChunks.size()).forEach(task -> task.cancel(false));
+    }
+
+    private static List<Person> convert(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(adaptedPersons.size());
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            persons.add(adaptedPerson.toModelType());
+        }
+        return persons;
+    }
+
+    /**
+     * The outcome of converting a chunk in the pool. A checked exception is carried as a value rather than thrown,
+     * so that the pool hands back the original exception.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final IllegalValueException exception;
+
+        private ConvertedChunk(List<Person> persons, IllegalValueException exception) {
+            this.persons = persons;
+            this.exception = exception;
+        }
+
+        static ConvertedChunk of(List<JsonAdaptedPerson> adaptedPersons) {
+            try {
+                return new ConvertedChunk(convert(adaptedPersons), null);
+            } catch (IllegalValueException ive) {
+                return new ConvertedChunk(null, ive);
+            }
+        }
+    }
+}
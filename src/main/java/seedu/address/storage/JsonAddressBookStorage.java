@@ -3,7 +3,9 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -38,6 +41,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons are parsed one at a time as the file is read, so the whole JSON document is never held in memory,
+     * and are converted and validated in parallel chunks while the rest of the file is parsed.
+     * A binary address book, or the journal of a {@link JournalAddressBookStorage}, is read as well, so that switching
+     * the file format in the user prefs keeps the data; it is converted at the next save.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +52,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        BinaryAddressBookStorage.recoverFromTempFile(filePath);
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info(filePath + " is a binary address book, reading it as such");
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
         }
+        if (Files.exists(JournalAddressBookStorage.getJournalPath(filePath))) {
+            logger.info(filePath + " has a journal, replaying it");
+            return new JournalAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        return readJsonAddressBook(filePath);
+    }
 
+    /**
+     * Reads the address book at {@code filePath} as json, whatever the file holds.
+     */
+    static Optional<ReadOnlyAddressBook> readJsonAddressBook(Path filePath) throws DataLoadingException {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                    JsonAdaptedPerson.class, converter::add);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(converter.getPersons()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +89,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are converted and written one at a time, so the whole JSON document is never held in memory.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +97,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        savePersons(addressBook.getPersonList().iterator(), filePath);
+    }
+
+    /**
+     * Saves the persons given by {@code persons} at {@code filePath} as an address book, taking each person from
+     * {@code persons} only when it is written. The persons therefore need not all be in memory at once, e.g. when
+     * they are generated.
+     * The persons must have distinct identities for the file to be loadable.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void savePersons(Iterator<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterator<JsonAdaptedPerson> jsonAdaptedPersons = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return persons.hasNext();
+            }
+
+            @Override
+            public JsonAdaptedPerson next() {
+                return new JsonAdaptedPerson(persons.next());
+            }
+        };
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD, jsonAdaptedPersons);
     }
 
 }
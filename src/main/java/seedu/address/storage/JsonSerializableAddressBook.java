@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +21,7 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -27,7 +29,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -42,17 +44,27 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted and validated in parallel chunks; see {@link JsonAdaptedPersonConverter}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter();
+        persons.forEach(converter::add);
+        return toAddressBook(converter.getPersons());
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the given persons, which have been read from JSON.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, dpe);
         }
         return addressBook;
     }
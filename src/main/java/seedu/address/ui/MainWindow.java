@@ -121,6 +121,8 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        statusBarFooter.setLoadingProgress(logic.getLoadingProgress());
+        logic.addLoadingProgressListener(statusBarFooter::setLoadingProgress);
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -1,16 +1,20 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.person.Person;
 
 /**
- * An UI component that displays information of a {@code Person}.
+ * An UI component that displays information of a {@code Person}, as formatted by its {@code PersonDisplay}.
+ * A card can be rebound to another person, so that a list cell only has to load the FXML once however often it is
+ * reused while scrolling.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +28,11 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    /** Labels for tags, of which the first ones are shown. Kept when fewer tags are shown so they can be reused. */
+    private final List<Label> tagLabels = new ArrayList<>();
+
+    private PersonDisplay display;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -46,20 +54,52 @@ public class PersonCard extends UiPart<Region> {
     private Label note;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard}, to be filled by {@link #setPerson(PersonDisplay, int)}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
+    }
+
+    /**
+     * Shows the person of {@code display} with the given index instead of the person currently shown.
+     * If the card already shows the same display at the same index, only the timezone text, which may have been
+     * formatted again since, is updated.
+     */
+    public void setPerson(PersonDisplay display, int displayedIndex) {
+        timezone.setText(display.getTimezone());
+        if (display == this.display && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.display = display;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        timezone.setText(person.getTimezone().toString());
-        note.setText(person.getNote().toString());
+        name.setText(display.getName());
+        phone.setText(display.getPhone());
+        address.setText(display.getAddress());
+        email.setText(display.getEmail());
+        setTags(display.getTagNames());
+        note.setText(display.getNote());
+    }
+
+    /**
+     * Shows {@code tagNames} in order, reusing the tag labels of earlier persons.
+     * Only the labels past the end of the shorter list are added to or removed from the pane.
+     */
+    private void setTags(List<String> tagNames) {
+        while (tagLabels.size() < tagNames.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            tagLabels.get(i).setText(tagNames.get(i));
+        }
+
+        ObservableList<Node> shownLabels = tags.getChildren();
+        if (shownLabels.size() > tagNames.size()) {
+            shownLabels.remove(tagNames.size(), shownLabels.size());
+        }
+        while (shownLabels.size() < tagNames.size()) {
+            shownLabels.add(tagLabels.get(shownLabels.size()));
+        }
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Timezone;
+
+/**
+ * The text that a {@code PersonCard} shows for a {@code Person}, formatted once instead of every time a card is
+ * rebound to the person.
+ * Only the timezone text depends on the system's UTC offset, so it is remembered together with the offset it was
+ * formatted for, and formatted again when {@link #updateTimezone(double)} is given a different one.
+ */
+public class PersonDisplay {
+
+    private final String name;
+    private final String phone;
+    private final String address;
+    private final String email;
+    private final List<String> tagNames;
+    private final String note;
+
+    // Not the person itself, so that a cache of displays keyed by person does not keep the person reachable
+    private final Timezone personTimezone;
+    private double timezoneLocalOffsetHours = Double.NaN;
+    private String timezone;
+
+    /**
+     * Creates the display of {@code person}, whose timezone text is only available after the first call to
+     * {@link #updateTimezone(double)}.
+     */
+    public PersonDisplay(Person person) {
+        name = person.getName().fullName;
+        phone = person.getPhone().value;
+        address = person.getAddress().value;
+        email = person.getEmail().value;
+        tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+        note = person.getNote().toString();
+        personTimezone = person.getTimezone();
+    }
+
+    /**
+     * Formats the timezone text for a system time that is {@code localOffsetHours} hours from UTC, unless it was
+     * already formatted for that offset.
+     */
+    public void updateTimezone(double localOffsetHours) {
+        if (localOffsetHours != timezoneLocalOffsetHours) {
+            timezone = personTimezone.toDisplayString(localOffsetHours);
+            timezoneLocalOffsetHours = localOffsetHours;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the names of the person's tags in alphabetical order.
+     */
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    public String getNote() {
+        return note;
+    }
+}
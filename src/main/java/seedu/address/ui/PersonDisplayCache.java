@@ -0,0 +1,66 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.DoubleSupplier;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Timezone;
+
+/**
+ * Keeps the {@code PersonDisplay} of each person that has been shown, so that scrolling back to a person does not
+ * format it again.
+ * Displays are looked up by value equality, not identity, so each lookup hashes the person's fields. As
+ * {@link Person#equals(Object)} compares every field that is displayed, a person replaced by an equal one keeps its
+ * display, and one changed by an edit gets a new one. An entry is dropped once the person it was stored for is no
+ * longer reachable.
+ * The system's UTC offset is only read again by {@link #updateLocalOffset()}, e.g. once a minute, rather than for
+ * every display that is handed out.
+ */
+public class PersonDisplayCache {
+
+    private final Map<Person, PersonDisplay> displays = new WeakHashMap<>();
+    private final DoubleSupplier localOffsetSource;
+    private double localOffsetHours;
+
+    /**
+     * Creates a cache that formats timezones relative to the system's UTC offset.
+     */
+    public PersonDisplayCache() {
+        this(Timezone::getLocalOffsetHours);
+    }
+
+    /**
+     * Creates a cache that formats timezones relative to the UTC offset, in hours, given by
+     * {@code localOffsetSource}.
+     */
+    PersonDisplayCache(DoubleSupplier localOffsetSource) {
+        this.localOffsetSource = localOffsetSource;
+        localOffsetHours = localOffsetSource.getAsDouble();
+    }
+
+    /**
+     * Returns the display of {@code person}, with its timezone text formatted for the current UTC offset.
+     */
+    public PersonDisplay get(Person person) {
+        requireNonNull(person);
+        PersonDisplay display = displays.computeIfAbsent(person, PersonDisplay::new);
+        display.updateTimezone(localOffsetHours);
+        return display;
+    }
+
+    /**
+     * Reads the system's UTC offset again. Returns true if it has changed, in which case the timezone texts of the
+     * displays shown so far are out of date until they are gotten again.
+     */
+    public boolean updateLocalOffset() {
+        double newLocalOffsetHours = localOffsetSource.getAsDouble();
+        if (newLocalOffsetHours == localOffsetHours) {
+            return false;
+        }
+        localOffsetHours = newLocalOffsetHours;
+        return true;
+    }
+}
@@ -2,11 +2,15 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
@@ -15,7 +19,12 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+
+    /** How often the system's UTC offset is checked for changes, e.g. at the start or end of daylight saving time. */
+    private static final Duration LOCAL_OFFSET_CHECK_INTERVAL = Duration.minutes(1);
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final PersonDisplayCache displayCache = new PersonDisplayCache();
 
     @FXML
     private ListView<Person> personListView;
@@ -27,12 +36,31 @@ public class PersonListPanel extends UiPart<Region> {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+
+        Timeline localOffsetCheck = new Timeline(new KeyFrame(LOCAL_OFFSET_CHECK_INTERVAL,
+                event -> refreshIfLocalOffsetChanged()));
+        localOffsetCheck.setCycleCount(Animation.INDEFINITE);
+        localOffsetCheck.play();
+    }
+
+    /**
+     * Redraws the visible cards with their timezone texts formatted again if the system's UTC offset has changed.
+     */
+    private void refreshIfLocalOffsetChanged() {
+        if (displayCache.updateLocalOffset()) {
+            logger.info("System UTC offset changed, updating the timezones shown");
+            personListView.refresh();
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The {@code ListView} only creates enough cells to fill the visible area and reuses them while scrolling, so
+     * each cell creates its card once and rebinds it to every person it is given.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +69,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(displayCache.get(person), getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
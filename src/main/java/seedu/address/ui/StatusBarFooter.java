@@ -6,6 +6,8 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.LoadingProgress;
+import seedu.address.logic.Messages;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,6 +18,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label loadingStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows how far the address book has been loaded, or nothing once it is done.
+     */
+    public void setLoadingProgress(LoadingProgress progress) {
+        loadingStatus.setText(progress.isDone() ? "" : Messages.format(progress));
+    }
+
 }
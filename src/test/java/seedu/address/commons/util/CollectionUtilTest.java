@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -8,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -73,6 +75,19 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void mergeSorted() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+
+        // additions before, between, equal to and after the sorted elements
+        assertEquals(List.of("a", "bb", "cc", "ddd", "eeee", "fffff"),
+                CollectionUtil.mergeSorted(List.of("bb", "eeee"), List.of("a", "cc", "ddd", "fffff"), byLength));
+
+        // empty lists
+        assertEquals(List.of("a"), CollectionUtil.mergeSorted(List.of(), List.of("a"), byLength));
+        assertEquals(List.of("a"), CollectionUtil.mergeSorted(List.of("a"), List.of(), byLength));
+    }
+
     @Test
     public void isAnyNonNull() {
         assertFalse(CollectionUtil.isAnyNonNull());
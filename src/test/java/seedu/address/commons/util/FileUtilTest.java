@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutTempFile() throws Exception {
+        Path file = temporaryFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFile_contentWriter_writesAllContent() throws Exception {
+        Path file = temporaryFolder.resolve("streamed.txt");
+        FileUtil.writeToFile(file, out -> {
+            for (int i = 0; i < 100_000; i++) {
+                out.write('a' + i % 26);
+            }
+        });
+        String content = FileUtil.readFromFile(file);
+        assertEquals(100_000, content.length());
+        assertEquals("abc", content.substring(0, 3));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFile_writerThrows_deletesTempFile() throws Exception {
+        Path file = temporaryFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFile(file, out -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void getTempFilePath_file_siblingWithSuffix() {
+        Path file = temporaryFolder.resolve("data.json");
+        assertEquals(temporaryFolder.resolve("data.json.tmp"), FileUtil.getTempFilePath(file));
+    }
 }
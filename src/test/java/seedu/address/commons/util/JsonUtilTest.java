@@ -1,12 +1,22 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -17,6 +27,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +52,97 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonFile_completeTempFileLeftBehind_recoversTempFile() throws Exception {
+        Path file = temporaryFolder.resolve("recover.json");
+        FileUtil.writeToFile(file, "{}");
+        Files.writeString(FileUtil.getTempFilePath(file), SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        SerializableTestClass serializableTestClass = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), serializableTestClass.getName());
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void readJsonFile_partialTempFileLeftBehind_deletesTempFile() throws Exception {
+        Path file = temporaryFolder.resolve("partial.json");
+        FileUtil.writeToFile(file, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        String partialContent = SerializableTestClass.JSON_STRING_REPRESENTATION.substring(0, 20);
+        Files.writeString(FileUtil.getTempFilePath(file), partialContent);
+
+        SerializableTestClass serializableTestClass = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), serializableTestClass.getName());
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void readJsonFile_onlyTempFileLeftBehind_recoversTempFile() throws Exception {
+        Path file = temporaryFolder.resolve("new.json");
+        Files.writeString(FileUtil.getTempFilePath(file), SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertTrue(JsonUtil.readJsonFile(file, SerializableTestClass.class).isPresent());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void saveJsonArrayFile_elements_sameLayoutAsSaveJsonFile() throws Exception {
+        Path streamedFile = temporaryFolder.resolve("streamed.json");
+        Path savedFile = temporaryFolder.resolve("saved.json");
+        JsonUtil.saveJsonArrayFile(streamedFile, "values", List.of("a", "b").iterator());
+        JsonUtil.saveJsonFile(Map.of("values", List.of("a", "b")), savedFile);
+
+        assertEquals(FileUtil.readFromFile(savedFile), FileUtil.readFromFile(streamedFile));
+    }
+
+    @Test
+    public void readJsonArrayFile_savedElements_handledInOrder() throws Exception {
+        Path file = temporaryFolder.resolve("array.json");
+        FileUtil.writeToFile(file, "{ \"other\" : { \"values\" : [ 9 ] }, \"values\" : [ 1, 2, 3 ] }");
+
+        List<Integer> values = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(file, "values", Integer.class, values::add));
+        assertEquals(List.of(1, 2, 3), values);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingArray_noElements() throws Exception {
+        Path file = temporaryFolder.resolve("empty.json");
+        FileUtil.writeToFile(file, "{}");
+
+        assertTrue(JsonUtil.readJsonArrayFile(file, "values", Integer.class, value -> {
+            throw new AssertionError("No element should be read.");
+        }));
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(temporaryFolder.resolve("missing.json"), "values", Integer.class,
+                value -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path file = temporaryFolder.resolve("truncated.json");
+        FileUtil.writeToFile(file, "{ \"values\" : [ 1, 2");
+
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(file, "values", Integer.class,
+                value -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_rejectedElement_throwsIllegalValueException() throws Exception {
+        Path file = temporaryFolder.resolve("rejected.json");
+        FileUtil.writeToFile(file, "{ \"values\" : [ 1, -1 ] }");
+
+        assertThrows(IllegalValueException.class, "negative", () -> JsonUtil.readJsonArrayFile(file, "values",
+                Integer.class, value -> {
+                    if (value < 0) {
+                        throw new IllegalValueException("negative");
+                    }
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -194,4 +195,60 @@ public class StringUtilTest {
         assertTrue(StringUtil.getLevenshteinDistance("HELLO", "hello") == 5);
     }
 
+    @Test
+    public void getLevenshteinDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getLevenshteinDistance("a", "b", -1));
+    }
+
+    @Test
+    public void getLevenshteinDistance_withinMaxDistance_returnsExactDistance() {
+        assertEquals(3, StringUtil.getLevenshteinDistance("kitten", "sitting", 3));
+        assertEquals(3, StringUtil.getLevenshteinDistance("sitting", "kitten", 10));
+        assertEquals(1, StringUtil.getLevenshteinDistance("alice", "alica", 2));
+        assertEquals(3, StringUtil.getLevenshteinDistance("", "abc", 3));
+        assertEquals(0, StringUtil.getLevenshteinDistance("", "", 0));
+    }
+
+    @Test
+    public void getLevenshteinDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(3, StringUtil.getLevenshteinDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.getLevenshteinDistance("abc", "abd", 0));
+        // length difference alone exceeds the maximum
+        assertEquals(2, StringUtil.getLevenshteinDistance("a", "abcdef", 1));
+        assertEquals(3, StringUtil.getLevenshteinDistance("abcdef", "", 2));
+    }
+
+    @Test
+    public void getLevenshteinDistance_variousMaxDistances_agreesWithFullMatrix() {
+        String[] words = {"", "a", "ab", "alice", "alicia", "bernice", "benson", "meier", "meyer", "danielle",
+            "daniel", "abcdefghijklmnopqrstuvwxyz0123456789abcdefghij", "zyxwvutsrqponmlkjihgfedcba"};
+        for (String first : words) {
+            for (String second : words) {
+                int distance = getFullMatrixDistance(first, second);
+                assertEquals(distance, StringUtil.getLevenshteinDistance(first, second));
+                for (int maxDistance = 0; maxDistance <= distance + 1; maxDistance++) {
+                    int expected = distance <= maxDistance ? distance : maxDistance + 1;
+                    assertEquals(expected, StringUtil.getLevenshteinDistance(first, second, maxDistance));
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the Levenshtein distance with the textbook full matrix, as a reference.
+     */
+    private static int getFullMatrixDistance(String s1, String s2) {
+        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) {
+            for (int j = 0; j <= s2.length(); j++) {
+                if (i == 0 || j == 0) {
+                    dp[i][j] = i + j;
+                } else {
+                    int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
+                    dp[i][j] = Math.min(dp[i - 1][j - 1] + cost, Math.min(dp[i - 1][j], dp[i][j - 1]) + 1);
+                }
+            }
+        }
+        return dp[s1.length()][s2.length()];
+    }
 }
@@ -0,0 +1,147 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<LoadingProgress> progressUpdates = new ArrayList<>();
+
+    @Test
+    public void start_multipleBatches_addsOneBatchPerUiTask() throws Exception {
+        int personCount = 2 * AddressBookLoader.BATCH_SIZE + 1;
+        ReadOnlyAddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(1L, personCount);
+        AddressBookLoader loader = createLoader(addressBook);
+
+        loader.start();
+        assertEquals(LoadingProgress.reading(), loader.getProgress());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        runAll(backgroundTasks);
+        assertEquals(1, uiTasks.size());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        uiTasks.remove().run();
+        assertEquals(LoadingProgress.of(0, personCount), loader.getProgress());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        uiTasks.remove().run();
+        assertEquals(LoadingProgress.of(AddressBookLoader.BATCH_SIZE, personCount), loader.getProgress());
+        assertEquals(AddressBookLoader.BATCH_SIZE, model.getAddressBook().getPersonList().size());
+
+        runAll(uiTasks);
+        assertEquals(LoadingProgress.done(personCount), loader.getProgress());
+        assertEquals(List.of(LoadingProgress.of(0, personCount),
+                LoadingProgress.of(AddressBookLoader.BATCH_SIZE, personCount),
+                LoadingProgress.of(2 * AddressBookLoader.BATCH_SIZE, personCount),
+                LoadingProgress.done(personCount)), progressUpdates);
+        assertEquals(new AddressBook(addressBook), model.getAddressBook());
+    }
+
+    @Test
+    public void start_missingFile_loadsSampleData() {
+        AddressBookLoader loader = createLoader(testFolder.resolve("missing.json"));
+        loader.start();
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void start_invalidFile_loadsEmptyAddressBook() {
+        AddressBookLoader loader = createLoader(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"));
+        loader.start();
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertEquals(LoadingProgress.done(0), loader.getProgress());
+        assertEquals(List.of(LoadingProgress.done(0)), progressUpdates);
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void start_unexpectedReadError_loadsEmptyAddressBook() {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+                throw new IllegalStateException("unexpected");
+            }
+        };
+        StorageManager storage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(model, storage, backgroundTasks::add, uiTasks::add);
+        loader.start();
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertEquals(LoadingProgress.done(0), loader.getProgress());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void start_activeFilter_appliesFilterToLoadedPersons() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        model.updateFilteredPersonList(person -> person.getName().fullName.startsWith("A"));
+        AddressBookLoader loader = createLoader(addressBook);
+        loader.start();
+        runAll(backgroundTasks);
+        runAll(uiTasks);
+
+        assertEquals(addressBook, model.getAddressBook());
+        assertFalse(model.getFilteredPersonList().isEmpty());
+        assertTrue(model.getFilteredPersonList().stream()
+                .allMatch(person -> person.getName().fullName.startsWith("A")));
+    }
+
+    private AddressBookLoader createLoader(ReadOnlyAddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return createLoader(filePath);
+    }
+
+    private AddressBookLoader createLoader(Path filePath) {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(model, storage, backgroundTasks::add, uiTasks::add);
+        loader.addProgressListener(progressUpdates::add);
+        return loader;
+    }
+
+    private static void runAll(Queue<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+    }
+}
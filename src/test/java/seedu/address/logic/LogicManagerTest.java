@@ -7,12 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH_MODE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +33,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookSaveScheduler;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -82,6 +88,58 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        logic = new LogicManager(model, new StorageManager(getFailingAddressBookStorage(DUMMY_IO_EXCEPTION),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_whileLoading_onlyExecutesReadOnlyCommands() throws Exception {
+        Path filePath = temporaryFolder.resolve("loadedAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AddressBookLoader loader = new AddressBookLoader(model, storage, Runnable::run, tasks::add);
+        logic = new LogicManager(model, AddressBookSaveScheduler.immediate(storage), loader);
+        loader.start();
+        tasks.remove().run();
+
+        // read-only command runs against the persons loaded so far
+        LoadingProgress progress = LoadingProgress.of(0, getTypicalAddressBook().getPersonList().size());
+        assertEquals(progress, logic.getLoadingProgress());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS
+                + String.format(Messages.MESSAGE_RESULTS_MAY_BE_INCOMPLETE, Messages.format(progress)), model);
+
+        // modifying command is rejected
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        assertCommandException(addCommand, String.format(Messages.MESSAGE_STILL_LOADING, Messages.format(progress)));
+
+        // fuzzy find waits as well, as it would never rank in the persons loaded later
+        assertCommandException(FindCommand.COMMAND_WORD + " " + PREFIX_SEARCH_MODE + "2 alica",
+                String.format(Messages.MESSAGE_STILL_LOADING, Messages.format(progress)));
+
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+        assertEquals(LoadingProgress.done(progress.getTotalCount()), logic.getLoadingProgress());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        // loaded persons are not saved again, so a read-only command does not touch the file
+        logic = new LogicManager(model, AddressBookSaveScheduler.immediate(new StorageManager(
+                getFailingAddressBookStorage(DUMMY_IO_EXCEPTION),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))), loader);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void getLoadingProgress_withoutLoader_isDone() {
+        assertEquals(LoadingProgress.done(0), logic.getLoadingProgress());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getPersonList().remove(0));
@@ -147,16 +205,8 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
-
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
-        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
-            @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
-                throw e;
-            }
-        };
+        JsonAddressBookStorage addressBookStorage = getFailingAddressBookStorage(e);
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
@@ -172,4 +222,17 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * Returns an AddressBookStorage that throws {@code e} when saving.
+     */
+    private JsonAddressBookStorage getFailingAddressBookStorage(IOException e) {
+        return new JsonAddressBookStorage(temporaryFolder.resolve("ExceptionAddressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw e;
+            }
+        };
+    }
 }
@@ -69,6 +69,13 @@ public class FindCommandTest {
         assertFalse(findFirstCommand.equals(fuzzyFindCommand));
     }
 
+    @Test
+    public void isReadOnly_fuzzySearch_false() {
+        assertTrue(new FindCommand(preparePredicate("alice")).isReadOnly());
+        assertTrue(new FindCommand(preparePredicate("alice", true, false)).isReadOnly());
+        assertFalse(new FindCommand(preparePredicate("alica", false, true)).isReadOnly());
+    }
+
     @Test
     public void execute_zeroKeywords_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0) + " (Search mode: relaxed)";
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 
 public class SortCommandTest {
@@ -99,6 +102,29 @@ public class SortCommandTest {
                 model, SortCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void comparators_sameNameIgnoringCase_orderedByDateAdded() {
+        Person earlier = new PersonBuilder().withName("alex yeoh")
+                .withDateAdded(Instant.parse("2020-01-01T00:00:00.000000001Z")).build();
+        Person later = new PersonBuilder().withName("Alex Yeoh")
+                .withDateAdded(Instant.parse("2020-01-01T00:00:00.000000002Z")).build();
+
+        assertTrue(SortCommand.COMPARATOR_SORT_PERSONS_BY_NAME_ASCENDING.compare(earlier, later) < 0);
+        assertTrue(SortCommand.COMPARATOR_SORT_PERSONS_BY_NAME_DESCENDING.compare(earlier, later) > 0);
+    }
+
+    @Test
+    public void comparators_sameDateAdded_orderedByNameIgnoringCase() {
+        Instant dateAdded = Instant.parse("2020-01-01T00:00:00Z");
+        Person lowerCaseFirst = new PersonBuilder().withName("alex").withDateAdded(dateAdded).build();
+        Person upperCaseSecond = new PersonBuilder().withName("Bernice").withDateAdded(dateAdded).build();
+
+        assertTrue(SortCommand.COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_ASCENDING.compare(lowerCaseFirst,
+                upperCaseSecond) < 0);
+        assertTrue(SortCommand.COMPARATOR_SORT_PERSONS_BY_DATE_ADDED_DESCENDING.compare(lowerCaseFirst,
+                upperCaseSecond) > 0);
+    }
+
     @Test
     public void execute_emptyListSorted_showsEmptyList() {
         // empty list
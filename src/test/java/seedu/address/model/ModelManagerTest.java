@@ -2,21 +2,32 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonComparators;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataUtil;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +99,167 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void filterPersonsByName_indexablePredicate_sameResultAsPredicate() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager expectedModelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        NameContainsKeywordsPredicate relaxedPredicate = new NameContainsKeywordsPredicate(Arrays.asList("eie", "Ku"));
+        modelManager.filterPersonsByName(relaxedPredicate);
+        expectedModelManager.updateFilteredPersonList(relaxedPredicate);
+        assertEquals(expectedModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+
+        NameContainsKeywordsPredicate strictPredicate = new NameContainsKeywordsPredicate(
+                Arrays.asList("MEIER", "kurz"), true, false);
+        modelManager.filterPersonsByName(strictPredicate);
+        expectedModelManager.updateFilteredPersonList(strictPredicate);
+        assertEquals(expectedModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void filterPersonsByName_matchingPersonEdited_remainsListed() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.filterPersonsByName(new NameContainsKeywordsPredicate(Arrays.asList("Meier"), true, false));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("12345678").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertTrue(modelManager.getFilteredPersonList().contains(editedBenson));
+
+        Person renamedBenson = new PersonBuilder(editedBenson).withName("Benson Tan").build();
+        modelManager.setPerson(editedBenson, renamedBenson);
+        assertFalse(modelManager.getFilteredPersonList().contains(renamedBenson));
+    }
+
+    @Test
+    public void filterPersonsByTags_predicate_sameResultAsPredicate() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager expectedModelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (List<String> tags : List.of(List.of("friends"), List.of("friends", "owesMoney"), List.<String>of())) {
+            TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(tags);
+            modelManager.filterPersonsByTags(predicate);
+            expectedModelManager.updateFilteredPersonList(predicate);
+            assertEquals(expectedModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+        }
+    }
+
+    @Test
+    public void getAddressBookVersion_personsChanged_changesVersion() {
+        long initialVersion = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(initialVersion, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        long versionAfterAdd = modelManager.getAddressBookVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        modelManager.setAddressBook(new AddressBook());
+        assertNotEquals(versionAfterAdd, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void getSortedPersonList_personsAndFilterChanged_staysSorted() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertSortedPersonListSorted(PersonComparators.BY_DATE_ADDED_ASCENDING);
+
+        modelManager.updateSortComparator(PersonComparators.BY_NAME_DESCENDING);
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_DESCENDING);
+
+        modelManager.addPerson(new PersonBuilder().withName("Mia Tan").build());
+        modelManager.deletePerson(BENSON);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Zoe Pauline").build());
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_DESCENDING);
+
+        modelManager.filterPersonsByTags(new TagContainsKeywordsPredicate(List.of("friends")));
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_DESCENDING);
+
+        modelManager.updateSortComparator(PersonComparators.BY_DATE_ADDED_DESCENDING);
+        assertSortedPersonListSorted(PersonComparators.BY_DATE_ADDED_DESCENDING);
+
+        // order that is not presorted
+        Comparator<Person> byPhone = Comparator.comparing(person -> person.getPhone().value);
+        modelManager.updateSortComparator(byPhone);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertSortedPersonListSorted(byPhone);
+    }
+
+    @Test
+    public void addPersons_manyPersons_mergedIntoSortedPersonList() {
+        List<Person> persons = new ArrayList<>();
+        SyntheticDataUtil.getSyntheticPersons(1L, 60).forEachRemaining(persons::add);
+        modelManager.addPersons(persons.subList(0, 30));
+        modelManager.updateSortComparator(PersonComparators.BY_NAME_ASCENDING);
+
+        modelManager.addPersons(persons.subList(30, 60));
+        assertEquals(60, modelManager.getSortedPersonList().size());
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_ASCENDING);
+    }
+
+    @Test
+    public void commitBatch_changesInBatch_publishedOnce() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateSortComparator(PersonComparators.BY_NAME_ASCENDING);
+        modelManager.filterPersonsByTags(new TagContainsKeywordsPredicate(List.of("friends")));
+        List<Person> filteredPersons = new ArrayList<>(modelManager.getFilteredPersonList());
+        long initialVersion = modelManager.getAddressBookVersion();
+
+        modelManager.beginBatch();
+        modelManager.addPerson(new PersonBuilder().withName("Mia Tan").build());
+        modelManager.deletePerson(BENSON);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Zoe Pauline").build());
+
+        // nothing is published, and the filter is kept, until the batch is committed
+        assertEquals(initialVersion, modelManager.getAddressBookVersion());
+        assertEquals(filteredPersons, modelManager.getFilteredPersonList());
+
+        modelManager.commitBatch();
+        assertEquals(initialVersion + 1, modelManager.getAddressBookVersion());
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_ASCENDING);
+    }
+
+    @Test
+    public void commitBatch_equalPersonSet_foundByTag() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person redatedAlice = new PersonBuilder(ALICE).withDateAdded(Instant.parse("2020-01-01T00:00:00Z")).build();
+
+        modelManager.runInBatch(() -> modelManager.setPerson(ALICE, redatedAlice));
+        modelManager.filterPersonsByTags(new TagContainsKeywordsPredicate(List.of("friends")));
+
+        assertTrue(modelManager.getFilteredPersonList().stream().anyMatch(person -> person == redatedAlice));
+    }
+
+    @Test
+    public void beginBatch_filterAndSortInBatch_appliedOnCommit() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> sortedPersons = new ArrayList<>(modelManager.getSortedPersonList());
+        Person mia = new PersonBuilder().withName("Mia Tan").withTags("friends").build();
+
+        modelManager.beginBatch();
+        modelManager.deletePerson(ALICE);
+        modelManager.setPerson(BENSON, mia);
+        modelManager.filterPersonsByTags(new TagContainsKeywordsPredicate(List.of("friends")));
+        modelManager.updateSortComparator(PersonComparators.BY_NAME_DESCENDING);
+
+        // the person lists only change once the batch is committed
+        assertEquals(sortedPersons, modelManager.getSortedPersonList());
+
+        modelManager.commitBatch();
+        assertTrue(modelManager.getFilteredPersonList().contains(mia));
+        assertFalse(modelManager.getFilteredPersonList().contains(ALICE));
+        assertTrue(modelManager.getFilteredPersonList().stream()
+                .allMatch(person -> person.getTags().stream().anyMatch(tag -> tag.tagName.equals("friends"))));
+        assertSortedPersonListSorted(PersonComparators.BY_NAME_DESCENDING);
+    }
+
+    @Test
+    public void runInBatch_changesThrow_batchCommitted() {
+        assertThrows(IllegalStateException.class, () -> modelManager.runInBatch(() -> {
+            modelManager.addPerson(ALICE);
+            throw new IllegalStateException();
+        }));
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getSortedPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getSortedPersonList().remove(0));
@@ -129,4 +301,10 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    private void assertSortedPersonListSorted(Comparator<Person> comparator) {
+        List<Person> expectedPersons = new ArrayList<>(modelManager.getFilteredPersonList());
+        expectedPersons.sort(comparator);
+        assertEquals(expectedPersons, modelManager.getSortedPersonList());
+    }
 }
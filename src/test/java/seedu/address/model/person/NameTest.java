@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,21 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getLowerCaseName() {
+        assertEquals("peter the 2nd", new Name("Peter The 2nd").getLowerCaseName());
+        assertEquals("peter", new Name("peter").getLowerCaseName());
+    }
+
+    @Test
+    public void isValidName_edgeCases_agreesWithValidationRegex() {
+        // leading and trailing spaces, other whitespace, a trailing line break and non-ASCII letters and digits
+        for (String test : List.of(" a", "a ", "a  b", "a\tb", "abc\n", "a_b", "Zo\u00eb", "\u0663\u0663\u0663",
+                "\uff11\uff12\uff13")) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void getPersonsWithWord_indexedWord_returnsPersons() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithWord("meier"));
+        assertEquals(Set.of(ALICE), index.getPersonsWithWord("alice"));
+    }
+
+    @Test
+    public void getPersonsWithWord_partialWord_returnsEmptySet() {
+        index.add(BENSON);
+        assertTrue(index.getPersonsWithWord("mei").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithWordContaining_fragments_returnsPersons() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        // shorter than a trigram
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.getPersonsWithWordContaining("e"));
+
+        // trigram lookup
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithWordContaining("eier"));
+        assertEquals(Set.of(ALICE), index.getPersonsWithWordContaining("paul"));
+
+        // fragment not in any word
+        assertTrue(index.getPersonsWithWordContaining("xyz").isEmpty());
+
+        // fragment spanning the space between words
+        assertTrue(index.getPersonsWithWordContaining("emei").isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_dropsWord() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.getPersonsWithWordContaining("meier"));
+
+        index.remove(DANIEL);
+        assertTrue(index.getPersonsWithWord("meier").isEmpty());
+        assertTrue(index.getPersonsWithWordContaining("eie").isEmpty());
+    }
+
+    @Test
+    public void add_repeatedWordInName_removedCleanly() {
+        Person person = new PersonBuilder().withName("Anna Anna").build();
+        index.add(person);
+        assertEquals(Set.of(person), index.getPersonsWithWord("anna"));
+        index.remove(person);
+        assertTrue(index.getPersonsWithWord("anna").isEmpty());
+    }
+
+    @Test
+    public void remove_equalButDifferentInstance_keepsIndexedPerson() {
+        Person copy = new PersonBuilder(ALICE).build();
+        index.add(ALICE);
+        index.remove(copy);
+        assertEquals(1, index.getPersonsWithWord("alice").size());
+    }
+}
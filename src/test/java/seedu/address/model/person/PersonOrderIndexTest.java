@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonComparators.BY_DATE_ADDED_ASCENDING;
+import static seedu.address.model.person.PersonComparators.BY_NAME_ASCENDING;
+import static seedu.address.model.person.PersonComparators.BY_NAME_DESCENDING;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withName("amy")
+            .withDateAdded(Instant.parse("2021-01-01T00:00:00Z")).build();
+    private static final Person BOB = new PersonBuilder().withName("Bob")
+            .withDateAdded(Instant.parse("2020-01-01T00:00:00Z")).build();
+    private static final Person CAT = new PersonBuilder().withName("Cat")
+            .withDateAdded(Instant.parse("2022-01-01T00:00:00Z")).build();
+    /** Ranks equal to {@code CAT} apart from the case of the name. */
+    private static final Person UPPER_CASE_CAT = new PersonBuilder(CAT).withName("CAT").build();
+
+    private final PersonOrderIndex index = new PersonOrderIndex(BY_NAME_ASCENDING, BY_NAME_DESCENDING);
+
+    @Test
+    public void add_unsortedPersons_keepsPersonsInOrder() {
+        List.of(CAT, AMY, UPPER_CASE_CAT, BOB).forEach(index::add);
+        assertEquals(List.of(AMY, BOB, UPPER_CASE_CAT, CAT), index.getPersons(BY_NAME_ASCENDING));
+    }
+
+    @Test
+    public void addAll_unsortedPersons_keepsPersonsInOrder() {
+        index.add(BOB);
+        index.addAll(List.of(CAT, AMY, UPPER_CASE_CAT));
+        assertEquals(List.of(AMY, BOB, UPPER_CASE_CAT, CAT), index.getPersons(BY_NAME_ASCENDING));
+    }
+
+    @Test
+    public void addAll_severalBatches_viewTakenBeforeShowsAllInOrder() {
+        List<Person> descendingPersons = index.getPersons(BY_NAME_DESCENDING);
+        index.addAll(List.of(CAT, AMY));
+        index.addAll(List.of(BOB));
+        assertEquals(List.of(CAT, BOB, AMY), descendingPersons);
+
+        index.add(UPPER_CASE_CAT);
+        index.remove(AMY);
+        assertEquals(List.of(BOB, UPPER_CASE_CAT, CAT), index.getPersons(BY_NAME_ASCENDING));
+    }
+
+    @Test
+    public void remove_personWithEqualName_removesOnlyThatPerson() {
+        List.of(CAT, AMY, UPPER_CASE_CAT, BOB).forEach(index::add);
+        index.remove(CAT);
+        assertEquals(List.of(AMY, BOB, UPPER_CASE_CAT), index.getPersons(BY_NAME_ASCENDING));
+
+        // person not in index
+        index.remove(CAT);
+        assertEquals(List.of(AMY, BOB, UPPER_CASE_CAT), index.getPersons(BY_NAME_ASCENDING));
+    }
+
+    @Test
+    public void getPersons_reversedOrder_returnsReversedView() {
+        List.of(CAT, AMY, BOB).forEach(index::add);
+        List<Person> reversedPersons = index.getPersons(BY_NAME_DESCENDING);
+        assertEquals(List.of(CAT, BOB, AMY), reversedPersons);
+
+        // view follows later changes
+        index.remove(BOB);
+        assertEquals(List.of(CAT, AMY), reversedPersons);
+    }
+
+    @Test
+    public void getPersons_modifyList_throwsUnsupportedOperationException() {
+        index.add(AMY);
+        assertThrows(UnsupportedOperationException.class, () -> index.getPersons(BY_NAME_ASCENDING).remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> index.getPersons(BY_NAME_DESCENDING).remove(0));
+    }
+
+    @Test
+    public void hasOrder() {
+        assertTrue(index.hasOrder(BY_NAME_ASCENDING));
+        assertTrue(index.hasOrder(BY_NAME_DESCENDING));
+        assertFalse(index.hasOrder(BY_DATE_ADDED_ASCENDING));
+
+        // equal behaviour is not enough
+        assertFalse(index.hasOrder(BY_NAME_ASCENDING.thenComparing(BY_NAME_ASCENDING)));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_removesAllPersons() {
+        List.of(CAT, AMY).forEach(index::add);
+        index.clear();
+        assertTrue(index.getPersons(BY_NAME_ASCENDING).isEmpty());
+    }
+}
@@ -12,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -90,6 +92,31 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getDetails_lazyPerson_loadsDetailsOnceWhenFirstNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person lazyAlice = new Person(ALICE.getName(), ALICE.getTags(), ALICE.getTimezone(), ALICE.getDateAdded(),
+            () -> {
+                loadCount.incrementAndGet();
+                return new ContactDetails(ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), ALICE.getNote());
+            });
+        assertFalse(lazyAlice.hasLoadedDetails());
+        assertTrue(lazyAlice.isSamePerson(ALICE));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(ALICE.getAddress(), lazyAlice.getAddress());
+        assertTrue(lazyAlice.hasLoadedDetails());
+        assertEquals(ALICE, lazyAlice);
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        assertEquals(ALICE.toString(), lazyAlice.toString());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void hasLoadedDetails_eagerPerson_returnsTrue() {
+        assertTrue(new PersonBuilder().build().hasLoadedDetails());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
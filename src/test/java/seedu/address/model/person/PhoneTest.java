@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -38,6 +41,14 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_edgeCases_agreesWithValidationRegex() {
+        // the minimum length, a trailing line break, a sign and non-ASCII digits
+        for (String test : List.of("12", "123", "123\n", "+6512", "\u0663\u0663\u0663", "\uff11\uff12\uff13")) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Person FRIEND = new PersonBuilder().withName("Amy Friend").withTags("friends").build();
+    private static final Person CLIENT = new PersonBuilder().withName("Bob Client").withTags("client").build();
+    private static final Person VIP_CLIENT = new PersonBuilder().withName("Cat Client")
+            .withTags("client", "VIP").build();
+    private static final Person UNTAGGED = new PersonBuilder().withName("Dan Untagged").withTags().build();
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void getPersonsWithAllTags_severalTags_returnsIntersection() {
+        List.of(FRIEND, CLIENT, VIP_CLIENT, UNTAGGED).forEach(index::add);
+        assertEquals(Set.of(CLIENT, VIP_CLIENT), index.getPersonsWithAllTags(List.of("client")));
+        assertEquals(Set.of(VIP_CLIENT), index.getPersonsWithAllTags(List.of("client", "VIP")));
+        assertTrue(index.getPersonsWithAllTags(List.of("friends", "client")).isEmpty());
+
+        // case-sensitive
+        assertTrue(index.getPersonsWithAllTags(List.of("vip")).isEmpty());
+
+        // unknown tag
+        assertTrue(index.getPersonsWithAllTags(List.of("client", "colleague")).isEmpty());
+    }
+
+    @Test
+    public void getUntaggedPersons_mixedPersons_returnsComplementOfTagged() {
+        List.of(FRIEND, UNTAGGED, CLIENT).forEach(index::add);
+        assertEquals(Set.of(UNTAGGED), index.getUntaggedPersons());
+    }
+
+    @Test
+    public void remove_person_freesOrdinalForNextPerson() {
+        List.of(FRIEND, CLIENT, UNTAGGED).forEach(index::add);
+        index.remove(CLIENT);
+        assertTrue(index.getPersonsWithAllTags(List.of("client")).isEmpty());
+
+        index.add(VIP_CLIENT);
+        assertEquals(Set.of(VIP_CLIENT), index.getPersonsWithAllTags(List.of("client")));
+        assertEquals(Set.of(FRIEND), index.getPersonsWithAllTags(List.of("friends")));
+        assertEquals(Set.of(UNTAGGED), index.getUntaggedPersons());
+    }
+
+    @Test
+    public void addAll_afterRemovals_fillsFreedOrdinalsFirst() {
+        index.addAll(List.of(FRIEND, CLIENT, UNTAGGED));
+        index.remove(FRIEND);
+        index.remove(CLIENT);
+
+        index.addAll(List.of(VIP_CLIENT, CLIENT, FRIEND));
+        assertEquals(Set.of(CLIENT, VIP_CLIENT), index.getPersonsWithAllTags(List.of("client")));
+        assertEquals(Set.of(FRIEND), index.getPersonsWithAllTags(List.of("friends")));
+        assertEquals(Set.of(UNTAGGED), index.getUntaggedPersons());
+        assertEquals(Set.of(FRIEND, CLIENT, VIP_CLIENT, UNTAGGED), index.getPersonsWithAllTags(List.of()));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_removesAllPersons() {
+        List.of(FRIEND, UNTAGGED).forEach(index::add);
+        index.clear();
+        assertTrue(index.getPersonsWithAllTags(List.of("friends")).isEmpty());
+        assertTrue(index.getUntaggedPersons().isEmpty());
+    }
+}
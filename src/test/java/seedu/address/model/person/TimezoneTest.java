@@ -91,4 +91,13 @@ public class TimezoneTest {
         assertEquals(expectedRelative, tz3.getRelativeToLocal());
         assertEquals(expectedString, tz3.toString());
     }
+
+    @Test
+    public void toDisplayString_givenLocalOffset_relativeToGivenOffset() {
+        Timezone tz = new Timezone(8.0);
+        assertEquals("UTC+8.0 (Same as system time)", tz.toDisplayString(8.0));
+        assertEquals("UTC+8.0 (2 hour(s) 30 minute(s) ahead of system time)", tz.toDisplayString(5.5));
+        assertEquals("UTC+8.0 (1 hour(s) behind system time)", tz.toDisplayString(9.0));
+        assertEquals("No Timezone Specified", new Timezone(Timezone.NO_TIMEZONE).toDisplayString(8.0));
+    }
 }
@@ -2,19 +2,29 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +57,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedByDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +91,104 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void commitBatch_changesInBatch_reportedAsOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<List<Person>> reportedLists = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                reportedLists.add(new ArrayList<>(change.getList())));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(CARL);
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.commitBatch();
+
+        // changes are visible to lookups but not reported yet
+        assertTrue(reportedLists.isEmpty());
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(CARL));
+
+        uniquePersonList.commitBatch();
+        assertEquals(List.of(List.of(editedAlice, CARL)), reportedLists);
+        assertEquals(List.of(editedAlice, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(editedAlice, CARL),
+                uniquePersonList.getPersonsInOrder(PersonComparators.BY_NAME_ASCENDING).get());
+    }
+
+    @Test
+    public void commitBatch_noChanges_reportsNothing() {
+        uniquePersonList.add(ALICE);
+        List<Person> reportedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                reportedPersons.addAll(change.getList()));
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.commitBatch();
+
+        assertTrue(reportedPersons.isEmpty());
+        assertFalse(uniquePersonList.isInBatch());
+    }
+
+    @Test
+    public void commitBatch_equalPersonSet_reportsChange() {
+        uniquePersonList.add(ALICE);
+        Person redatedAlice = new PersonBuilder(ALICE).withDateAdded(Instant.parse("2020-01-01T00:00:00Z")).build();
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(ALICE, redatedAlice);
+        uniquePersonList.commitBatch();
+
+        // equals ignores the date added, but the list must hold the instance that the indexes hold
+        assertSame(redatedAlice, uniquePersonList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void commitBatch_noOpenBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.commitBatch());
+    }
+
+    @Test
+    public void addAll_newPersons_addsInOneChange() {
+        uniquePersonList.add(ALICE);
+        List<Integer> addedSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                addedSizes.add(change.getAddedSize());
+            }
+        });
+
+        uniquePersonList.addAll(List.of(CARL, BENSON));
+
+        assertEquals(List.of(2), addedSizes);
+        assertEquals(List.of(ALICE, CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertEquals(List.of(ALICE, BENSON, CARL),
+                uniquePersonList.getPersonsInOrder(PersonComparators.BY_NAME_ASCENDING).get());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+
+        // already in list
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, ALICE)));
+
+        // duplicated within the added persons
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, editedBenson)));
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +258,45 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_afterEarlierRemoval_replacesCorrectSlot() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(DANIEL, BOB);
+        uniquePersonList.remove(ALICE);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_existingPerson_firesSingleReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<Integer> replacedSlots = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replacedSlots.add(change.wasReplaced() && change.getAddedSize() == 1 ? change.getFrom() : -1);
+            }
+        });
+
+        uniquePersonList.setPerson(BENSON, BOB);
+
+        assertEquals(List.of(1), replacedSlots);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +332,63 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsCollidingNames() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: " + ALICE.getName() + ", "
+                + BOB.getName();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findClosestByName_fuzzyKeywords_sameRankingAsSortingByDistance() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(CARL);
+        for (String keywords : List.of("alica", "meir kurtz", "xyz", "e", "daniel meier")) {
+            NameContainsKeywordsPredicate predicate =
+                    new NameContainsKeywordsPredicate(Arrays.asList(keywords.split(" ")), false, true);
+            List<Person> expectedRanking = uniquePersonList.asUnmodifiableObservableList().stream()
+                    .sorted(Comparator.comparingInt(predicate::getMinimumDistance))
+                    .limit(5)
+                    .collect(Collectors.toList());
+            assertEquals(expectedRanking, uniquePersonList.findClosestByName(predicate, 5));
+        }
+    }
+
+    @Test
+    public void findClosestByName_limitAboveSize_returnsEveryPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("bensen"), false, true);
+        assertEquals(Arrays.asList(BENSON, ALICE), uniquePersonList.findClosestByName(predicate, 5));
+    }
+
+    @Test
+    public void getPersonsInOrder_presortedOrders_followChanges() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zara Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        for (Comparator<Person> comparator : List.of(PersonComparators.BY_NAME_ASCENDING,
+                PersonComparators.BY_NAME_DESCENDING, PersonComparators.BY_DATE_ADDED_ASCENDING,
+                PersonComparators.BY_DATE_ADDED_DESCENDING)) {
+            List<Person> expectedPersons = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+            expectedPersons.sort(comparator);
+            assertEquals(expectedPersons, uniquePersonList.getPersonsInOrder(comparator).get());
+        }
+    }
+
+    @Test
+    public void getPersonsInOrder_otherOrder_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getPersonsInOrder(Comparator.comparing(Person::getDateAdded)).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
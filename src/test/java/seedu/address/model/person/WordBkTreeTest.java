@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class WordBkTreeTest {
+
+    private static final List<String> WORDS = List.of("alice", "alicia", "alex", "bob", "bobby", "benson", "carl",
+            "carla", "daniel", "danielle", "elle", "fiona", "george", "kurz", "meier", "meyer", "mayer");
+
+    private final WordBkTree tree = new WordBkTree();
+
+    @Test
+    public void add_duplicateWord_returnsFalse() {
+        assertTrue(tree.add("alice"));
+        assertTrue(tree.add("alicia"));
+        assertFalse(tree.add("alice"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void getNearestWords_emptyTree_hasNoWords() {
+        WordBkTree.NearestWords nearestWords = tree.getNearestWords("alice");
+        assertFalse(nearestWords.hasNext());
+        assertThrows(NoSuchElementException.class, nearestWords::next);
+        assertThrows(NoSuchElementException.class, nearestWords::peekDistance);
+    }
+
+    @Test
+    public void getNearestWords_variousTargets_returnsEveryWordInOrderOfDistance() {
+        WORDS.forEach(tree::add);
+        for (String target : List.of("alica", "meir", "bo", "xyz", "danielle", "")) {
+            Map<String, Integer> distances = new HashMap<>();
+            List<Integer> distancesInOrder = new ArrayList<>();
+            WordBkTree.NearestWords nearestWords = tree.getNearestWords(target);
+            while (nearestWords.hasNext()) {
+                int distance = nearestWords.peekDistance();
+                distances.put(nearestWords.next(), distance);
+                distancesInOrder.add(distance);
+            }
+
+            assertEquals(getDistances(target), distances);
+            List<Integer> sortedDistances = new ArrayList<>(distancesInOrder);
+            sortedDistances.sort(null);
+            assertEquals(sortedDistances, distancesInOrder);
+        }
+    }
+
+    @Test
+    public void limitDistance_variousLimits_returnsOnlyWordsWithinLimitInOrder() {
+        WORDS.forEach(tree::add);
+        for (String target : List.of("alica", "meir", "bo", "xyz")) {
+            for (int maxDistance = 0; maxDistance <= 4; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (Map.Entry<String, Integer> entry : getDistances(target).entrySet()) {
+                    if (entry.getValue() <= maxDistance) {
+                        expected.put(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                Map<String, Integer> distances = new HashMap<>();
+                WordBkTree.NearestWords nearestWords = tree.getNearestWords(target);
+                nearestWords.limitDistance(maxDistance);
+                while (nearestWords.hasNext()) {
+                    int distance = nearestWords.peekDistance();
+                    distances.put(nearestWords.next(), distance);
+                }
+                assertEquals(expected, distances);
+            }
+        }
+    }
+
+    @Test
+    public void limitDistance_afterWordsReturned_skipsFartherWords() {
+        WORDS.forEach(tree::add);
+        WordBkTree.NearestWords nearestWords = tree.getNearestWords("alica");
+        assertEquals(1, nearestWords.peekDistance());
+        nearestWords.next();
+        nearestWords.limitDistance(1);
+        while (nearestWords.hasNext()) {
+            assertTrue(nearestWords.peekDistance() <= 1);
+            nearestWords.next();
+        }
+    }
+
+    @Test
+    public void clear_nonEmptyTree_removesAllWords() {
+        WORDS.forEach(tree::add);
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertFalse(tree.getNearestWords("alice").hasNext());
+    }
+
+    private static Map<String, Integer> getDistances(String target) {
+        Map<String, Integer> distances = new HashMap<>();
+        for (String word : WORDS) {
+            distances.put(word, StringUtil.getLevenshteinDistance(word, target));
+        }
+        return distances;
+    }
+}
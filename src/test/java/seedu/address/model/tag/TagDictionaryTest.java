@@ -0,0 +1,69 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary dictionary = TagDictionary.getInstance();
+
+    @Test
+    public void intern_equalTags_returnsSameInstance() {
+        Tag first = dictionary.intern(new Tag("colleagues"));
+        Tag second = dictionary.intern("colleagues");
+        assertSame(first, second);
+        assertEquals(new Tag("colleagues"), first);
+    }
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> dictionary.intern("not valid"));
+    }
+
+    @Test
+    public void isInterned() {
+        assertFalse(dictionary.isInterned("neverInternedTag"));
+        dictionary.intern("internedOnce");
+        assertTrue(dictionary.isInterned("internedOnce"));
+    }
+
+    @Test
+    public void getId_internedTag_roundTripsThroughGetTag() {
+        int id = dictionary.getId(new Tag("neighbours"));
+        assertEquals(id, dictionary.getId(new Tag("neighbours")));
+        assertEquals(new Tag("neighbours"), dictionary.getTag(id));
+    }
+
+    @Test
+    public void getIds_tags_returnsDistinctAscendingIds() {
+        int[] ids = dictionary.getIds(List.of(new Tag("zebra"), new Tag("apple"), new Tag("zebra")));
+        assertEquals(2, ids.length);
+        assertTrue(ids[0] < ids[1]);
+        assertArrayEquals(ids, dictionary.getIds(Set.of(new Tag("apple"), new Tag("zebra"))));
+    }
+
+    @Test
+    public void asTagSet_ids_behavesLikeTagSet() {
+        Set<Tag> expected = Set.of(new Tag("family"), new Tag("gym"));
+        Set<Tag> tags = dictionary.asTagSet(dictionary.getIds(expected));
+
+        assertEquals(expected, tags);
+        assertEquals(new HashSet<>(expected).hashCode(), tags.hashCode());
+        assertTrue(tags.contains(new Tag("gym")));
+        assertFalse(tags.contains(new Tag("work")));
+        assertFalse(tags.contains(new Tag("neverInternedBefore")));
+        assertFalse(tags.contains("gym"));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("work")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("gym")));
+    }
+}
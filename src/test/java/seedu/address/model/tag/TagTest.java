@@ -1,7 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -21,6 +26,24 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("best friend")); // contains whitespace
+        assertFalse(Tag.isValidTagName("friend_1")); // contains non-alphanumeric characters
+        assertFalse(Tag.isValidTagName("caf\u00e9")); // contains non-ASCII letters
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friends"));
+        assertTrue(Tag.isValidTagName("CS2103T"));
+    }
+
+    @Test
+    public void isValidTagName_sampleStrings_agreesWithValidationRegex() {
+        for (String test : List.of("", " ", "a", "a b", "a_b", "a\nb", "abc\n", "123", "Zo\u00eb", "\u0663",
+                "\uff11", "ABCxyz789", "#tag")) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
     }
 
 }
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class SyntheticDataUtilTest {
+
+    private static final int COUNT = 20_000;
+
+    @Test
+    public void getSyntheticPersons_sameSeed_samePersons() {
+        assertEquals(getPersons(1, 500), getPersons(1, 500));
+    }
+
+    @Test
+    public void getSyntheticPersons_differentSeeds_differentPersons() {
+        assertNotEquals(getPersons(1, 500), getPersons(2, 500));
+    }
+
+    @Test
+    public void getSyntheticPersons_largeCount_distinctNamesSharingWords() {
+        List<Person> persons = getPersons(7, COUNT);
+        assertEquals(COUNT, persons.size());
+
+        Set<String> names = new HashSet<>();
+        Set<String> firstAndLastNames = new HashSet<>();
+        for (Person person : persons) {
+            String fullName = person.getName().fullName;
+            assertTrue(names.add(fullName.toLowerCase()), fullName);
+            String[] words = fullName.split(" ");
+            firstAndLastNames.add(words[0] + " " + words[1]);
+        }
+        // many persons share a first and last name
+        assertTrue(firstAndLastNames.size() < COUNT / 4);
+    }
+
+    @Test
+    public void getSyntheticPersons_largeCount_skewedTags() {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        getPersons(7, COUNT).forEach(person -> person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum)));
+
+        int mostCommonCount = tagCounts.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+        int leastCommonCount = tagCounts.values().stream().mapToInt(Integer::intValue).min().getAsInt();
+        assertTrue(mostCommonCount > 5 * leastCommonCount);
+    }
+
+    @Test
+    public void getSyntheticPersons_exhausted_throwsNoSuchElementException() {
+        Iterator<Person> persons = SyntheticDataUtil.getSyntheticPersons(1, 1);
+        persons.next();
+        assertFalse(persons.hasNext());
+        assertThrows(NoSuchElementException.class, persons::next);
+    }
+
+    @Test
+    public void getSyntheticPersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SyntheticDataUtil.getSyntheticPersons(1, -1));
+    }
+
+    @Test
+    public void getSyntheticAddressBook_count_containsGeneratedPersons() {
+        assertEquals(getPersons(3, 1000), SyntheticDataUtil.getSyntheticAddressBook(3, 1000).getPersonList());
+    }
+
+    private static List<Person> getPersons(long seed, int count) {
+        List<Person> persons = new ArrayList<>();
+        SyntheticDataUtil.getSyntheticPersons(seed, count).forEachRemaining(persons::add);
+        return persons;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveSchedulerTest {
+
+    /** Long enough that nothing is written in the background before a test flushes. */
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+
+    @Test
+    public void schedule_immediate_savesRightAway() throws Exception {
+        AddressBookSaveScheduler scheduler = AddressBookSaveScheduler.immediate(storage);
+        scheduler.schedule(getTypicalAddressBook());
+        assertEquals(List.of(new AddressBook(getTypicalAddressBook())), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void schedule_immediateStorageFails_throwsIoException() {
+        storage.failure = new IOException("disk full");
+        AddressBookSaveScheduler scheduler = AddressBookSaveScheduler.immediate(storage);
+        assertThrows(IOException.class, "disk full", () -> scheduler.schedule(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void schedule_debouncedBurst_savesLatestSnapshotOnce() throws Exception {
+        AddressBookSaveScheduler scheduler = AddressBookSaveScheduler.debounced(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        scheduler.schedule(addressBook);
+        addressBook.addPerson(BENSON);
+        scheduler.schedule(addressBook);
+        AddressBook expectedSnapshot = new AddressBook(addressBook);
+
+        // changes after scheduling are not part of the snapshot
+        addressBook.removePerson(ALICE);
+
+        scheduler.shutdown();
+        assertEquals(List.of(expectedSnapshot), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void flush_nothingScheduled_savesNothing() throws Exception {
+        AddressBookSaveScheduler scheduler = AddressBookSaveScheduler.debounced(storage, LONG_DELAY_MILLIS);
+        scheduler.flush();
+        scheduler.shutdown();
+        assertEquals(List.of(), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void flush_debouncedStorageFails_throwsIoExceptionOnce() throws Exception {
+        storage.failure = new IOException("disk full");
+        AddressBookSaveScheduler scheduler = AddressBookSaveScheduler.debounced(storage, LONG_DELAY_MILLIS);
+        scheduler.schedule(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", scheduler::flush);
+
+        // the failure has been reported
+        scheduler.shutdown();
+    }
+
+    /**
+     * An AddressBookStorage that records what it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<AddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedAddressBooks.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
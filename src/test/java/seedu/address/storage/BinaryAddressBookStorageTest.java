@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notAddressBookFormat_exceptionThrown() {
+        Path jsonFilePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_readsBothFormats() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Unicode Note").withNote("Caf\u00e9 \u2615, \ud83d\ude00")
+                .withTags("friends", "colleagues").withTimezone(-9.5).build());
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_generatedPersons_smallerThanJson() throws Exception {
+        ReadOnlyAddressBook original = SyntheticDataUtil.getSyntheticAddressBook(1, 2000);
+        Path binaryFilePath = testFolder.resolve("GeneratedAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("GeneratedAddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertEquals(original.getPersonList(),
+                new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get().getPersonList());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("AddressBook.json");
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        Path convertedJsonFilePath = testFolder.resolve("ConvertedAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage.convertFromJson(jsonFilePath, binaryFilePath);
+        assertEquals(getTypicalAddressBook(),
+                new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+
+        BinaryAddressBookStorage.convertToJson(binaryFilePath, convertedJsonFilePath);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedJsonFilePath));
+    }
+
+    @Test
+    public void convert_missingFile_throwsNoSuchFileException() {
+        Path missingFilePath = testFolder.resolve("Missing.json");
+        Path otherFilePath = testFolder.resolve("Other.bin");
+        assertThrows(NoSuchFileException.class, () ->
+                BinaryAddressBookStorage.convertFromJson(missingFilePath, otherFilePath));
+        assertThrows(NoSuchFileException.class, () ->
+                BinaryAddressBookStorage.convertToJson(missingFilePath, otherFilePath));
+    }
+
+    @Test
+    public void convertFromJson_invalidPerson_throwsDataLoadingException() {
+        Path jsonFilePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        assertThrows(DataLoadingException.class, () ->
+                BinaryAddressBookStorage.convertFromJson(jsonFilePath, binaryFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        for (int length : new int[] {0, 6, content.length / 2, content.length - 1}) {
+            Files.write(filePath, Arrays.copyOf(content, length));
+            assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.readAddressBook());
+        }
+    }
+
+    @Test
+    public void readAddressBook_completeTempFileLeftBehind_recoversTempFile() throws Exception {
+        Path filePath = testFolder.resolve("RecoveredAddressBook.bin");
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(tempFilePath).saveAddressBook(newer);
+
+        assertEquals(newer, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempFilePath));
+    }
+
+    @Test
+    public void readAddressBook_partialTempFileLeftBehind_deletesTempFile() throws Exception {
+        Path filePath = testFolder.resolve("PartialAddressBook.bin");
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(tempFilePath, Arrays.copyOf(content, content.length - 1));
+
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempFilePath));
+    }
+
+    @Test
+    public void readAddressBook_completeJsonTempFileLeftBehind_recoversTempFile() throws Exception {
+        Path filePath = testFolder.resolve("SwitchedAddressBook.bin");
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(tempFilePath).saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempFilePath));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NewerAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[7]++;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_loadsDetailsLazily() throws Exception {
+        Path filePath = testFolder.resolve("LazyAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        List<Person> persons = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertTrue(persons.stream().noneMatch(Person::hasLoadedDetails));
+
+        // the file is no longer needed to load the details
+        Files.delete(filePath);
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+        assertTrue(persons.stream().allMatch(Person::hasLoadedDetails));
+    }
+
+    @Test
+    public void readAddressBook_invalidPhone_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("InvalidPhoneAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withPhone("123456").build());
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+
+        // the file stays intact, so only the phone check can reject it
+        byte[] content = Files.readAllBytes(filePath);
+        String contentString = new String(content, StandardCharsets.ISO_8859_1);
+        content[contentString.indexOf("123456")] = 'x';
+        CRC32 checksum = new CRC32();
+        checksum.update(content, 0, content.length - Integer.BYTES);
+        ByteBuffer.wrap(content).putInt(content.length - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, content);
+
+        String expectedMessage = new IllegalValueException(Phone.MESSAGE_CONSTRAINTS).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptDetails_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void getJournalPath_snapshotPath_appendsSuffix() {
+        assertEquals(testFolder.resolve("addressBook.json.journal"), journalPath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAppendedToJournal_success() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        // add, edit, rename and delete
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        original.setPerson(ALICE, editedAlice);
+        original.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Renamed").build());
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        // unchanged book writes nothing
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithoutJournal_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        read.addPerson(HOON);
+        storage.saveAddressBook(read);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(read, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onlyDateAddedChanged_appendsRecord() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        Person redatedAlice = new PersonBuilder(ALICE).withDateAdded(Instant.parse("2020-01-01T00:00:00Z")).build();
+        original.setPerson(ALICE, redatedAlice);
+        storage.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(redatedAlice.getDateAdded(), new JournalAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList().get(0).getDateAdded());
+    }
+
+    @Test
+    public void saveAddressBook_clearedBook_singleClearRecord() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(new AddressBook(), new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalLongerThanThreshold_compactsIntoSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        Person previous = ALICE;
+        for (String phone : List.of("11111111", "22222222")) {
+            Person edited = new PersonBuilder(ALICE).withPhone(phone).build();
+            original.setPerson(previous, edited);
+            storage.saveAddressBook(original);
+            previous = edited;
+        }
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_dropsRecord() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        expected.addPerson(HOON);
+
+        List<String> lines = Files.readAllLines(journalPath);
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(journalPath, lines, StandardCharsets.UTF_8);
+
+        assertEquals(expected, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        List<String> lines = Files.readAllLines(journalPath);
+        lines.set(1, "{\"operation\":\"REMOVE\",\"index\":99}");
+        Files.write(journalPath, lines, StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a crash after a new snapshot is written leaves the previous journal behind
+        AddressBook newSnapshot = new AddressBook();
+        newSnapshot.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newSnapshot);
+
+        assertEquals(newSnapshot, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesSnapshot() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+        Files.writeString(JournalAddressBookStorage.getJournalPath(otherPath), "", StandardOpenOption.APPEND);
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherPath).get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void getChanges_reorderedPersons_returnsEmpty() {
+        assertTrue(JournalAddressBookStorage.getChanges(List.of(ALICE, BENSON), List.of(BENSON, ALICE)).isEmpty());
+        assertEquals(0, JournalAddressBookStorage.getChanges(List.of(ALICE), List.of(ALICE)).get().size());
+    }
+
+    @Test
+    public void getChanges_personRenamedInPlace_returnsSingleSetRecord() {
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Renamed").build();
+        List<JsonAdaptedJournalRecord> records = JournalAddressBookStorage.getChanges(
+                List.of(ALICE, BENSON, CARL), List.of(ALICE, renamedBenson, CARL)).get();
+
+        assertEquals(1, records.size());
+        assertEquals(JsonAdaptedJournalRecord.Operation.SET, records.get(0).getOperation());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.storage.JsonAdaptedPersonConverter.CHUNK_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedPersonConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void getPersons_severalChunks_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = getPersons(CHUNK_SIZE * 5 + 3);
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(pool);
+        persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_lessThanOneChunk_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = getPersons(3);
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(pool);
+        persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_noPersons_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), new JsonAdaptedPersonConverter(pool).getPersons());
+    }
+
+    @Test
+    public void getPersons_invalidPersonsInSeveralChunks_throwsExceptionOfFirst() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        getPersons(CHUNK_SIZE * 4 + 3).forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        adaptedPersons.set(CHUNK_SIZE * 3 + 1, withoutField(null, "12345678"));
+        adaptedPersons.set(CHUNK_SIZE + 7, withoutField("Missing Phone", null));
+        adaptedPersons.set(CHUNK_SIZE * 4 + 1, withoutField(null, "12345678"));
+
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(pool);
+        adaptedPersons.forEach(converter::add);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                Phone.class.getSimpleName()), converter::getPersons);
+    }
+
+    @Test
+    public void getPersons_invalidPersonInLastChunkOnly_throwsItsException() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        getPersons(CHUNK_SIZE * 2 + 3).forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        adaptedPersons.set(CHUNK_SIZE * 2 + 2, withoutField(null, "12345678"));
+
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(pool);
+        adaptedPersons.forEach(converter::add);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                Name.class.getSimpleName()), converter::getPersons);
+    }
+
+    private static List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withoutField(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS,
+                null, null, "1999-12-31T23:59:59Z", PersonBuilder.DEFAULT_NOTE);
+    }
+}
@@ -11,13 +11,17 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +90,58 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_typicalAddressBook_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(getTypicalAddressBook(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void savePersons_generatedPersons_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("GeneratedAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.savePersons(SyntheticDataUtil.getSyntheticPersons(1, 2000), filePath);
+
+        assertEquals(SyntheticDataUtil.getSyntheticAddressBook(1, 2000).getPersonList(),
+                jsonAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_journaledFile_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("JournaledAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("DuplicateAddressBook.json");
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(ALICE)).iterator());
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,40 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDisplayCacheTest {
+
+    private double localOffsetHours = 8.0;
+    private final PersonDisplayCache cache = new PersonDisplayCache(() -> localOffsetHours);
+
+    @Test
+    public void get_samePerson_returnsCachedDisplay() {
+        PersonDisplay display = cache.get(ALICE);
+        assertSame(display, cache.get(ALICE));
+        assertSame(display, cache.get(new PersonBuilder(ALICE).build()));
+
+        // edited person
+        assertNotSame(display, cache.get(new PersonBuilder(ALICE).withPhone("91234567").build()));
+    }
+
+    @Test
+    public void updateLocalOffset_offsetChanged_formatsTimezonesAgain() {
+        assertEquals(ALICE.getTimezone().toDisplayString(8.0), cache.get(ALICE).getTimezone());
+
+        assertFalse(cache.updateLocalOffset());
+
+        localOffsetHours = 9.0;
+        assertEquals(ALICE.getTimezone().toDisplayString(8.0), cache.get(ALICE).getTimezone());
+        assertTrue(cache.updateLocalOffset());
+        assertEquals(ALICE.getTimezone().toDisplayString(9.0), cache.get(ALICE).getTimezone());
+    }
+}
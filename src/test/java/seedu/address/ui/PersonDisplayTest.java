@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDisplayTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Pauline").withTags("owesMoney", "friends")
+            .withTimezone(8.0).build();
+
+    @Test
+    public void constructor_person_formatsFields() {
+        PersonDisplay display = new PersonDisplay(person);
+        assertEquals("Alice Pauline", display.getName());
+        assertEquals(person.getPhone().value, display.getPhone());
+        assertEquals(person.getAddress().value, display.getAddress());
+        assertEquals(person.getEmail().value, display.getEmail());
+        assertEquals(List.of("friends", "owesMoney"), display.getTagNames());
+        assertEquals(person.getNote().toString(), display.getNote());
+    }
+
+    @Test
+    public void updateTimezone_offsetChanged_formatsAgain() {
+        PersonDisplay display = new PersonDisplay(person);
+        display.updateTimezone(8.0);
+        String timezone = display.getTimezone();
+        assertEquals(person.getTimezone().toDisplayString(8.0), timezone);
+
+        // same offset
+        display.updateTimezone(8.0);
+        assertSame(timezone, display.getTimezone());
+
+        // different offset
+        display.updateTimezone(9.0);
+        assertEquals(person.getTimezone().toDisplayString(9.0), display.getTimezone());
+    }
+}